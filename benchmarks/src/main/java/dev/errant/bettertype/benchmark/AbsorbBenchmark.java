@@ -0,0 +1,114 @@
+package dev.errant.bettertype.benchmark;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverters;
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Failable.absorb and SimpleFailable.absorb on the success, throwing and (for Failable) null returning paths.
+ *
+ * The "thrown" benchmarks construct a new exception on every call, as real code does, so they include the cost of
+ * filling in the stack trace. The "rethrown" benchmarks throw a preallocated exception to isolate the absorber itself.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AbsorbBenchmark {
+
+    private String successValue;
+    private IOException preallocated;
+    private ExceptionConverter<String> messageConverter;
+
+    @Setup
+    public void setup() {
+        successValue = "chickens";
+        preallocated = new IOException("coop door stuck");
+        messageConverter = ExceptionConverters.messagePrintingConverter();
+    }
+
+    @Benchmark
+    public Failable<String, Exception> failableAbsorb_success() {
+        return Failable.absorb(() -> successValue);
+    }
+
+    @Benchmark
+    public Failable<String, Exception> failableAbsorb_thrown() {
+        return Failable.absorb(() -> {
+            throw new IOException("coop door stuck");
+        });
+    }
+
+    @Benchmark
+    public Failable<String, Exception> failableAbsorb_rethrown() {
+        return Failable.absorb(() -> {
+            throw preallocated;
+        });
+    }
+
+    @Benchmark
+    public Failable<String, Exception> failableAbsorb_null() {
+        return Failable.absorb(() -> null);
+    }
+
+    @Benchmark
+    public Failable<String, String> failableAbsorbConverted_success() {
+        return Failable.absorb(() -> successValue, messageConverter);
+    }
+
+    @Benchmark
+    public Failable<String, String> failableAbsorbConverted_thrown() {
+        return Failable.absorb(() -> {
+            throw new IOException("coop door stuck");
+        }, messageConverter);
+    }
+
+    @Benchmark
+    public Failable<String, String> failableAbsorbNamed_success() {
+        return Failable.absorb("coop.read", () -> successValue, messageConverter);
+    }
+
+    @Benchmark
+    public SimpleFailable<Exception> simpleFailableAbsorb_success(Blackhole blackhole) {
+        return SimpleFailable.absorb(() -> blackhole.consume(successValue));
+    }
+
+    @Benchmark
+    public SimpleFailable<Exception> simpleFailableAbsorb_thrown() {
+        return SimpleFailable.absorb(() -> {
+            throw new IOException("coop door stuck");
+        });
+    }
+
+    @Benchmark
+    public SimpleFailable<Exception> simpleFailableAbsorb_rethrown() {
+        return SimpleFailable.absorb(() -> {
+            throw preallocated;
+        });
+    }
+
+    @Benchmark
+    public SimpleFailable<String> simpleFailableAbsorbConverted_thrown() {
+        return SimpleFailable.absorb(() -> {
+            throw new IOException("coop door stuck");
+        }, messageConverter);
+    }
+
+}
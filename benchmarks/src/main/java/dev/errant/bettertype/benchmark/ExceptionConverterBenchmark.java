@@ -0,0 +1,114 @@
+package dev.errant.bettertype.benchmark;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Each provided ExceptionConverter against an exception (with a cause) created at a configurable stack depth.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExceptionConverterBenchmark {
+
+    @Param({"10", "100"})
+    private int stackDepth;
+
+    private Exception exception;
+
+    private ExceptionConverter<String> messagePrintingConverter;
+    private ExceptionConverter<String> stackTracePrintingConverter;
+    private ExceptionConverter<String> cachingStackTracePrintingConverter;
+    private ExceptionConverter<String> boundedStackTracePrintingConverter;
+    private ExceptionConverter<String> instanceofChainConverter;
+    private ExceptionConverter<String> byTypeConverter;
+
+    @Setup
+    public void setup() {
+        exception = createAtDepth(stackDepth);
+
+        messagePrintingConverter = ExceptionConverters.messagePrintingConverter();
+        stackTracePrintingConverter = ExceptionConverters.stackTracePrintingConverter();
+        cachingStackTracePrintingConverter = ExceptionConverters.cachingStackTracePrintingConverter();
+        boundedStackTracePrintingConverter = ExceptionConverters.boundedStackTracePrintingConverter(20, 3);
+        instanceofChainConverter = (exception) -> {
+            if(exception instanceof FileNotFoundException) {
+                return "missing";
+            } else if(exception instanceof IOException) {
+                return "io";
+            } else if(exception instanceof TimeoutException) {
+                return "timeout";
+            } else if(exception instanceof IllegalArgumentException) {
+                return "argument";
+            } else if(exception instanceof IllegalStateException) {
+                return "state";
+            }
+            return "unknown";
+        };
+        byTypeConverter = ExceptionConverters.<String>byType((exception) -> "unknown")
+                .on(FileNotFoundException.class, (exception) -> "missing")
+                .on(IOException.class, (exception) -> "io")
+                .on(TimeoutException.class, (exception) -> "timeout")
+                .on(IllegalArgumentException.class, (exception) -> "argument")
+                .on(IllegalStateException.class, (exception) -> "state")
+                .build();
+    }
+
+    @Benchmark
+    public String messagePrintingConverter() {
+        return messagePrintingConverter.convert(exception);
+    }
+
+    @Benchmark
+    public String stackTracePrintingConverter() {
+        return stackTracePrintingConverter.convert(exception);
+    }
+
+    @Benchmark
+    public String cachingStackTracePrintingConverter_hit() {
+        return cachingStackTracePrintingConverter.convert(exception);
+    }
+
+    @Benchmark
+    public String boundedStackTracePrintingConverter() {
+        return boundedStackTracePrintingConverter.convert(exception);
+    }
+
+    @Benchmark
+    public String instanceofChainConverter() {
+        return instanceofChainConverter.convert(exception);
+    }
+
+    @Benchmark
+    public String byTypeConverter() {
+        return byTypeConverter.convert(exception);
+    }
+
+    private static Exception createAtDepth(int depth) {
+        if(depth > 0) {
+            return createAtDepth(depth - 1);
+        }
+
+        return new IllegalStateException("could not count chickens", new IOException("coop door stuck"));
+    }
+
+}
@@ -0,0 +1,68 @@
+package dev.errant.bettertype.benchmark;
+
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.FailableBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holding a large number of outcomes (1% failures) as a List of Failables against a columnar FailableBatch. Run with
+ * -prof gc to compare the bytes allocated per batch.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FailableBatchBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private Integer[] values;
+
+    @Setup
+    public void setup() {
+        values = new Integer[size];
+        for(int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+    }
+
+    @Benchmark
+    public List<Failable<Integer, String>> list() {
+        List<Failable<Integer, String>> outcomes = new ArrayList<>(size);
+        for(int i = 0; i < size; i++) {
+            outcomes.add(i % 100 == 0 ? Failable.failure("fox") : Failable.success(values[i]));
+        }
+        return outcomes;
+    }
+
+    @Benchmark
+    public FailableBatch<Integer, String> batch() {
+        FailableBatch.Builder<Integer, String> builder = FailableBatch.builder(size);
+        for(int i = 0; i < size; i++) {
+            if(i % 100 == 0) {
+                builder.addFailure("fox");
+            } else {
+                builder.addSuccess(values[i]);
+            }
+        }
+        return builder.build();
+    }
+
+}
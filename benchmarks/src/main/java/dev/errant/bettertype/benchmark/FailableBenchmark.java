@@ -0,0 +1,107 @@
+package dev.errant.bettertype.benchmark;
+
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction, mapping and conversion of Failable on both the success and the failure side.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FailableBenchmark {
+
+    private Integer successValue;
+    private String failValue;
+
+    private Failable<Integer, String> success;
+    private Failable<Integer, String> failure;
+
+    @Setup
+    public void setup() {
+        successValue = 1234;
+        failValue = "some failure";
+
+        success = Failable.success(successValue);
+        failure = Failable.failure(failValue);
+    }
+
+    @Benchmark
+    public Failable<Integer, String> success() {
+        return Failable.success(successValue);
+    }
+
+    @Benchmark
+    public Failable<Integer, String> failure() {
+        return Failable.failure(failValue);
+    }
+
+    @Benchmark
+    public Failable<Integer, String> mapSuccessChain_success() {
+        return success
+                .mapSuccess(a -> a + 1)
+                .mapSuccess(a -> a * 2)
+                .mapSuccess(a -> a - 3);
+    }
+
+    @Benchmark
+    public Failable<Integer, String> mapSuccessChain_failure() {
+        return failure
+                .mapSuccess(a -> a + 1)
+                .mapSuccess(a -> a * 2)
+                .mapSuccess(a -> a - 3);
+    }
+
+    @Benchmark
+    public Failable<Integer, Integer> mapFailureChain_success() {
+        return success
+                .mapFailure(String::length)
+                .mapFailure(a -> a * 2)
+                .mapFailure(a -> a - 3);
+    }
+
+    @Benchmark
+    public Failable<Integer, Integer> mapFailureChain_failure() {
+        return failure
+                .mapFailure(String::length)
+                .mapFailure(a -> a * 2)
+                .mapFailure(a -> a - 3);
+    }
+
+    @Benchmark
+    public Optional<Integer> toOptional_success() {
+        return success.toOptional();
+    }
+
+    @Benchmark
+    public Optional<Integer> toOptional_failure() {
+        return failure.toOptional();
+    }
+
+    @Benchmark
+    public SimpleFailable<String> toSimpleFailable_success() {
+        return success.toSimpleFailable();
+    }
+
+    @Benchmark
+    public SimpleFailable<String> toSimpleFailable_failure() {
+        return failure.toSimpleFailable();
+    }
+
+}
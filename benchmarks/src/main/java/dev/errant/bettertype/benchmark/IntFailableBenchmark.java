@@ -0,0 +1,63 @@
+package dev.errant.bettertype.benchmark;
+
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.IntFailable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IntFailable against a boxed Failable&lt;Integer, String&gt; for the same counting work, using values outside the
+ * Integer cache so that boxing really allocates.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntFailableBenchmark {
+
+    private int count;
+
+    @Setup
+    public void setup() {
+        count = 1234;
+    }
+
+    @Benchmark
+    public int boxed_successMapChain() {
+        return Failable.<Integer, String>success(count)
+                .mapSuccess(a -> a + 1)
+                .mapSuccess(a -> a * 2)
+                .getSuccess();
+    }
+
+    @Benchmark
+    public int primitive_successMapChain() {
+        return IntFailable.<String>success(count)
+                .mapSuccess(a -> a + 1)
+                .mapSuccess(a -> a * 2)
+                .getAsInt();
+    }
+
+    @Benchmark
+    public int boxed_absorb() {
+        return Failable.absorb(() -> count + 1).getSuccess();
+    }
+
+    @Benchmark
+    public int primitive_absorb() {
+        return IntFailable.absorb(() -> count + 1).getAsInt();
+    }
+
+}
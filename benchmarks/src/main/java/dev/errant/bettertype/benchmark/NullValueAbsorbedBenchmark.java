@@ -0,0 +1,54 @@
+package dev.errant.bettertype.benchmark;
+
+import dev.errant.bettertype.basic.absorber.NullValueAbsorbed;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverters;
+import dev.errant.bettertype.basic.failable.Failable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of the NullValueAbsorbed marker: constructing a new one (with a stack trace) against the shared stackless
+ * instance, and the null returning absorb path that uses it.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NullValueAbsorbedBenchmark {
+
+    private ExceptionConverter<String> messageConverter;
+
+    @Setup
+    public void setup() {
+        messageConverter = ExceptionConverters.messagePrintingConverter();
+    }
+
+    @Benchmark
+    public NullValueAbsorbed constructed() {
+        return new NullValueAbsorbed();
+    }
+
+    @Benchmark
+    public NullValueAbsorbed shared() {
+        return NullValueAbsorbed.instance();
+    }
+
+    @Benchmark
+    public Failable<String, String> failableAbsorbConverted_null() {
+        return Failable.absorb(() -> null, messageConverter);
+    }
+
+}
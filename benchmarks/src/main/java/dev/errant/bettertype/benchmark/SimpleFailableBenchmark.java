@@ -0,0 +1,67 @@
+package dev.errant.bettertype.benchmark;
+
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction and mapping of SimpleFailable on both the success and the failure side.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleFailableBenchmark {
+
+    private String failValue;
+
+    private SimpleFailable<String> success;
+    private SimpleFailable<String> failure;
+
+    @Setup
+    public void setup() {
+        failValue = "some failure";
+
+        success = SimpleFailable.success();
+        failure = SimpleFailable.failure(failValue);
+    }
+
+    @Benchmark
+    public SimpleFailable<String> success() {
+        return SimpleFailable.success();
+    }
+
+    @Benchmark
+    public SimpleFailable<String> failure() {
+        return SimpleFailable.failure(failValue);
+    }
+
+    @Benchmark
+    public SimpleFailable<Integer> mapFailureChain_success() {
+        return success
+                .mapFailure(String::length)
+                .mapFailure(a -> a * 2)
+                .mapFailure(a -> a - 3);
+    }
+
+    @Benchmark
+    public SimpleFailable<Integer> mapFailureChain_failure() {
+        return failure
+                .mapFailure(String::length)
+                .mapFailure(a -> a * 2)
+                .mapFailure(a -> a - 3);
+    }
+
+}
@@ -0,0 +1,6 @@
+package dev.errant.bettertype.basic.absorber;
+
+@FunctionalInterface
+public interface AbsorbableDoubleSupplierAction {
+    double act() throws Exception;
+}
@@ -0,0 +1,6 @@
+package dev.errant.bettertype.basic.absorber;
+
+@FunctionalInterface
+public interface AbsorbableFunctionAction<I, T> {
+    T act(I input) throws Exception;
+}
@@ -0,0 +1,6 @@
+package dev.errant.bettertype.basic.absorber;
+
+@FunctionalInterface
+public interface AbsorbableIntSupplierAction {
+    int act() throws Exception;
+}
@@ -0,0 +1,26 @@
+package dev.errant.bettertype.basic.absorber;
+
+/**
+ * The base of the Exceptions an absorber passes to the ExceptionConverter to describe a situation in which nothing was
+ * thrown, e.g. {@link NullValueAbsorbed}. A marker is never thrown; it only lets the converter, which takes an
+ * Exception, produce a failure value for the situation.
+ *
+ * Each marker has a shared {@code instance()} that the absorbers pass rather than constructing a new marker each time.
+ * It has no stack trace (the trace would only ever point into the absorber) and cannot have suppressed exceptions or a
+ * cause added, so it is safe to share between threads and costs nothing to produce.
+ */
+abstract class AbsorbedMarker extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    AbsorbedMarker(String message) {
+        super(message);
+    }
+
+    /**
+     * For the shared instance: stackless, without suppression and without a cause
+     */
+    AbsorbedMarker(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+}
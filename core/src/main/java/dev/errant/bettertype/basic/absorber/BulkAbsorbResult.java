@@ -0,0 +1,86 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.failable.Failable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcomes of absorbing many actions at once. Outcomes are kept in the order of the actions (or inputs) given, the
+ * successes and failures are also available as separate partitions, each in the same relative order.
+ *
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+public final class BulkAbsorbResult<S, F> {
+    private final List<Failable<S, F>> outcomes;
+    private final List<S> successes;
+    private final List<F> failures;
+    private final int[] failureIndices;
+
+    BulkAbsorbResult(Failable<S, F>[] outcomes) {
+        List<S> successes = new ArrayList<>(outcomes.length);
+        List<F> failures = new ArrayList<>();
+        int[] failureIndices = new int[outcomes.length];
+
+        for(int i = 0; i < outcomes.length; i++) {
+            Failable<S, F> outcome = outcomes[i];
+            if(outcome.isSuccess()) {
+                successes.add(outcome.getSuccess());
+            } else {
+                failureIndices[failures.size()] = i;
+                failures.add(outcome.getFailure());
+            }
+        }
+
+        this.outcomes = Collections.unmodifiableList(Arrays.asList(outcomes));
+        this.successes = Collections.unmodifiableList(successes);
+        this.failures = Collections.unmodifiableList(failures);
+        this.failureIndices = Arrays.copyOf(failureIndices, failures.size());
+    }
+
+    /**
+     * @return every outcome, in the order of the actions (or inputs) given
+     */
+    public List<Failable<S, F>> getOutcomes() {
+        return outcomes;
+    }
+
+    /**
+     * @return the success values, in the order of the actions that produced them
+     */
+    public List<S> getSuccesses() {
+        return successes;
+    }
+
+    /**
+     * @return the converted failure values, in the order of the actions that produced them
+     */
+    public List<F> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return the position of each failed action (or input), matching {@link #getFailures()} element for element
+     */
+    public int[] getFailureIndices() {
+        return failureIndices.clone();
+    }
+
+    /**
+     * @return true if every action succeeded
+     */
+    public boolean isAllSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * @return the number of actions (or inputs) absorbed
+     */
+    public int size() {
+        return outcomes.size();
+    }
+
+}
@@ -0,0 +1,175 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps how many actions against a named resource run at once, so a slow dependency cannot tie up every thread of the
+ * pools calling it.
+ * <pre>{@code
+ *     private final Bulkhead coopRegistry = Bulkhead.of("coop-registry",
+ *             BulkheadConfig.of(10).withMaxWait(Duration.ofMillis(50)));
+ *
+ *     public Failable<Chicken, String> findChicken(String name) {
+ *         return coopRegistry.absorb(() -> registryClient.lookup(name), ExceptionConverters.messagePrintingConverter());
+ *     }
+ * }</pre>
+ *
+ * Each call takes a permit for as long as its action runs. A call that cannot get a permit within the configured wait,
+ * or that finds the configured number of callers already waiting, does not run its action; the converter is given the
+ * shared {@link BulkheadRejectionAbsorbed} marker instead (see {@link BulkheadConfig}).
+ *
+ * A caller interrupted while waiting does not run its action either; the InterruptedException is converted like any
+ * exception an action throws, and the thread's interrupt status is restored.
+ */
+public final class Bulkhead {
+    private final String name;
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final int maxWaiting;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    private Bulkhead(String name, BulkheadConfig config) {
+        this.name = name;
+        this.permits = new Semaphore(config.getMaxConcurrent());
+        this.maxWaitNanos = config.getMaxWaitNanos();
+        this.maxWaiting = config.getMaxWaiting();
+    }
+
+    /**
+     * @param name the resource the bulkhead protects, for identification only
+     * @param config how many actions run at once and how callers wait
+     * @return a bulkhead with every permit free
+     */
+    public static Bulkhead of(String name, BulkheadConfig config) {
+        assert(name!=null);
+        assert(config!=null);
+
+        return new Bulkhead(name, config);
+    }
+
+    /**
+     * Absorb the action as {@link Failable#absorb(AbsorbableSupplierAction, ExceptionConverter)} once a permit is
+     * taken, otherwise convert {@link BulkheadRejectionAbsorbed#instance()} without running the action.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param <S> the success type (inferred from action)
+     * @param <F> the failable type (inferred from converter)
+     * @return A Failable containing either the Success or Failure value
+     */
+    public <S, F> Failable<S, F> absorb(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter) {
+        Exception notAdmitted = acquire();
+        if(notAdmitted != null) {
+            return Failable.failure(converter.convert(notAdmitted));
+        }
+
+        try {
+            return Failable.absorb(action, converter);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Absorb the action as {@link SimpleFailable#absorb(AbsorbableAction, ExceptionConverter)} once a permit is taken,
+     * otherwise convert {@link BulkheadRejectionAbsorbed#instance()} without running the action.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a exception into a more useful type
+     * @param <F> the failable type (inferred from converter)
+     * @return a SimpleFailable of either success or the converted failure
+     */
+    public <F> SimpleFailable<F> absorbSimple(AbsorbableAction action, ExceptionConverter<F> converter) {
+        Exception notAdmitted = acquire();
+        if(notAdmitted != null) {
+            return SimpleFailable.failure(converter.convert(notAdmitted));
+        }
+
+        try {
+            return SimpleFailable.absorb(action, converter);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * @return the name of the protected resource
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of actions that could start now without waiting
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * @return the number of callers currently waiting for a permit
+     */
+    public int getWaitingCalls() {
+        return waiting.get();
+    }
+
+    /**
+     * @return the number of calls rejected without running their action
+     */
+    public long getRejectedCalls() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return null once a permit is taken, otherwise the exception to convert in place of running the action
+     */
+    private Exception acquire() {
+        if(permits.tryAcquire()) {
+            return null;
+        }
+
+        if(maxWaitNanos == 0 || !startWaiting()) {
+            rejected.increment();
+            return BulkheadRejectionAbsorbed.instance();
+        }
+
+        try {
+            if(permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+
+            rejected.increment();
+            return BulkheadRejectionAbsorbed.instance();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return true if the caller may wait, in which case it is counted until it stops waiting
+     */
+    private boolean startWaiting() {
+        while(true) {
+            int current = waiting.get();
+            if(current >= maxWaiting) {
+                return false;
+            }
+            if(waiting.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+}
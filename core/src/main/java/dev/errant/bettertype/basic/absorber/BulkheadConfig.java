@@ -0,0 +1,73 @@
+package dev.errant.bettertype.basic.absorber;
+
+import java.time.Duration;
+
+/**
+ * How many actions a {@link Bulkhead} runs at once, and how long and how many callers may wait for a turn.
+ *
+ * By default callers do not wait at all; a call finding every permit taken is rejected straight away. With a maximum
+ * wait, up to maxWaiting callers (by default as many as there are permits) wait for at most that long, and any caller
+ * beyond them is rejected without waiting.
+ *
+ * Configurations are immutable, each withX method returns a new configuration.
+ */
+public final class BulkheadConfig {
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    private final int maxWaiting;
+
+    private BulkheadConfig(int maxConcurrent, Duration maxWait, int maxWaiting) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWait = maxWait;
+        this.maxWaiting = maxWaiting;
+    }
+
+    /**
+     * @param maxConcurrent the maximum number of actions run at once
+     * @return a configuration rejecting calls immediately once every permit is taken
+     */
+    public static BulkheadConfig of(int maxConcurrent) {
+        if(maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be at least 1, was " + maxConcurrent);
+        }
+
+        return new BulkheadConfig(maxConcurrent, Duration.ZERO, maxConcurrent);
+    }
+
+    /**
+     * @param maxWait how long a caller waits for a permit before being rejected, zero to not wait
+     * @return a copy of this configuration with the given wait
+     */
+    public BulkheadConfig withMaxWait(Duration maxWait) {
+        if(maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must not be negative, was " + maxWait);
+        }
+
+        return new BulkheadConfig(maxConcurrent, maxWait, maxWaiting);
+    }
+
+    /**
+     * @param maxWaiting the maximum number of callers waiting for a permit at once
+     * @return a copy of this configuration with the given number of waiting callers
+     */
+    public BulkheadConfig withMaxWaiting(int maxWaiting) {
+        if(maxWaiting < 0) {
+            throw new IllegalArgumentException("maxWaiting must not be negative, was " + maxWaiting);
+        }
+
+        return new BulkheadConfig(maxConcurrent, maxWait, maxWaiting);
+    }
+
+    int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    long getMaxWaitNanos() {
+        return Durations.saturatedNanos(maxWait);
+    }
+
+    int getMaxWaiting() {
+        return maxWaiting;
+    }
+
+}
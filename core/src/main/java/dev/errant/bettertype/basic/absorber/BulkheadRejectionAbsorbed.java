@@ -0,0 +1,28 @@
+package dev.errant.bettertype.basic.absorber;
+
+/**
+ * Passed to the ExceptionConverter when a {@link Bulkhead} was full and no permit came free within the wait allowed.
+ */
+public class BulkheadRejectionAbsorbed extends AbsorbedMarker {
+    private static final long serialVersionUID = 1L;
+
+    private static final String MESSAGE = "the bulkhead was full, the action was not run";
+
+    private static final BulkheadRejectionAbsorbed INSTANCE = new BulkheadRejectionAbsorbed(false);
+
+    public BulkheadRejectionAbsorbed() {
+        super(MESSAGE);
+    }
+
+    private BulkheadRejectionAbsorbed(boolean writableStackTrace) {
+        super(MESSAGE, writableStackTrace);
+    }
+
+    /**
+     * @return the shared, stackless marker passed to ExceptionConverters by the bulkhead
+     */
+    public static BulkheadRejectionAbsorbed instance() {
+        return INSTANCE;
+    }
+
+}
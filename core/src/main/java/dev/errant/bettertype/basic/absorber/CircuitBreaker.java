@@ -0,0 +1,316 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Absorbs actions against a downstream that may be down, failing fast instead of calling it while it is known to be
+ * failing.
+ *
+ * While CLOSED every action is run and its outcome recorded. When the failure rate over the recent window reaches the
+ * configured threshold the circuit OPENs; actions are no longer run and the converter is given the shared
+ * {@link CircuitOpenAbsorbed} marker instead. After the open duration the circuit is HALF_OPEN and lets a few probe
+ * calls through, closing again if they succeed (see {@link CircuitBreakerConfig}). A probe that has not reported back
+ * within another open duration is treated as failed, so a hung probe cannot hold the circuit half open; the circuit opens
+ * again for the next call that finds no probe left to take.
+ *
+ * A call counts as failed when it is absorbed as a failure, including a null value, or when the action throws an
+ * Error or the converter throws.
+ *
+ * Everything is lock free; the state is a single atomic reference and the window a ring of atomic slots, so a closed
+ * circuit adds a few atomic operations to each call. Outcomes of calls admitted before a state change are ignored by
+ * the new state.
+ */
+public final class CircuitBreaker {
+
+    /**
+     * The states of a circuit breaker
+     */
+    public enum State {
+        /**
+         * Actions are run and their outcomes recorded
+         */
+        CLOSED,
+        /**
+         * Actions are not run, every call fails fast
+         */
+        OPEN,
+        /**
+         * A limited number of probe actions are run to find out whether the downstream has recovered
+         */
+        HALF_OPEN
+    }
+
+    private final CircuitBreakerConfig config;
+    private final AtomicReference<Phase> phase;
+    private final LongAdder notPermitted = new LongAdder();
+
+    private CircuitBreaker(CircuitBreakerConfig config) {
+        this.config = config;
+        this.phase = new AtomicReference<>(Phase.closed(config.getWindowSize()));
+    }
+
+    /**
+     * @param config when to open and how to recover
+     * @return a closed circuit breaker
+     */
+    public static CircuitBreaker of(CircuitBreakerConfig config) {
+        assert(config!=null);
+
+        return new CircuitBreaker(config);
+    }
+
+    /**
+     * Absorb the action as {@link Failable#absorb(AbsorbableSupplierAction, ExceptionConverter)} if the circuit allows
+     * it, otherwise convert {@link CircuitOpenAbsorbed#instance()} without running the action.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param <S> the success type (inferred from action)
+     * @param <F> the failable type (inferred from converter)
+     * @return A Failable containing either the Success or Failure value
+     */
+    public <S, F> Failable<S, F> absorb(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter) {
+        Phase admitted = acquire();
+        if(admitted == null) {
+            return Failable.failure(converter.convert(CircuitOpenAbsorbed.instance()));
+        }
+
+        boolean succeeded = false;
+        try {
+            Failable<S, F> outcome = Failable.absorb(action, converter);
+            succeeded = outcome.isSuccess();
+            return outcome;
+        } finally {
+            record(admitted, succeeded);
+        }
+    }
+
+    /**
+     * Absorb the action as {@link SimpleFailable#absorb(AbsorbableAction, ExceptionConverter)} if the circuit allows
+     * it, otherwise convert {@link CircuitOpenAbsorbed#instance()} without running the action.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a exception into a more useful type
+     * @param <F> the failable type (inferred from converter)
+     * @return a SimpleFailable of either success or the converted failure
+     */
+    public <F> SimpleFailable<F> absorbSimple(AbsorbableAction action, ExceptionConverter<F> converter) {
+        Phase admitted = acquire();
+        if(admitted == null) {
+            return SimpleFailable.failure(converter.convert(CircuitOpenAbsorbed.instance()));
+        }
+
+        boolean succeeded = false;
+        try {
+            SimpleFailable<F> outcome = SimpleFailable.absorb(action, converter);
+            succeeded = outcome.isSuccess();
+            return outcome;
+        } finally {
+            record(admitted, succeeded);
+        }
+    }
+
+    /**
+     * @return the current state, moving an open circuit whose open duration has passed to half open
+     */
+    public State getState() {
+        Phase current = phase.get();
+        if(current.state == State.OPEN && elapsed(current)) {
+            phase.compareAndSet(current, Phase.halfOpen(config.getHalfOpenProbes(), config.getNanoClock().getAsLong()));
+            return phase.get().state;
+        }
+        if(current.state == State.HALF_OPEN && current.permits.get() == 0 && elapsed(current)) {
+            phase.compareAndSet(current, Phase.open(config.getNanoClock().getAsLong()));
+            return phase.get().state;
+        }
+        return current.state;
+    }
+
+    /**
+     * @return the share of failed calls in the current window, 0 if no calls are recorded or the circuit is not closed
+     */
+    public double getFailureRate() {
+        Window window = phase.get().window;
+        if(window == null) {
+            return 0.0;
+        }
+
+        int buffered = window.buffered();
+        return buffered == 0 ? 0.0 : (double) window.failures() / buffered;
+    }
+
+    /**
+     * @return the number of outcomes in the current window, 0 if the circuit is not closed
+     */
+    public int getBufferedCalls() {
+        Window window = phase.get().window;
+        return window == null ? 0 : window.buffered();
+    }
+
+    /**
+     * @return the number of failed outcomes in the current window, 0 if the circuit is not closed
+     */
+    public int getFailedCalls() {
+        Window window = phase.get().window;
+        return window == null ? 0 : window.failures();
+    }
+
+    /**
+     * @return the number of calls failed fast without running the action, since the breaker was created
+     */
+    public long getNotPermittedCalls() {
+        return notPermitted.sum();
+    }
+
+    /**
+     * @return the phase the call was admitted in, or null if the call is not permitted
+     */
+    private Phase acquire() {
+        while(true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED:
+                    return current;
+                case OPEN:
+                    if(!elapsed(current)) {
+                        notPermitted.increment();
+                        return null;
+                    }
+                    phase.compareAndSet(current, Phase.halfOpen(config.getHalfOpenProbes(), config.getNanoClock().getAsLong()));
+                    break;
+                default:
+                    if(current.takePermit()) {
+                        return current;
+                    }
+                    if(elapsed(current)) {
+                        // every probe is out and one has not reported back in time, treat it as failed
+                        phase.compareAndSet(current, Phase.open(config.getNanoClock().getAsLong()));
+                        break;
+                    }
+                    notPermitted.increment();
+                    return null;
+            }
+        }
+    }
+
+    private void record(Phase admitted, boolean succeeded) {
+        if(admitted.state == State.CLOSED) {
+            admitted.window.record(!succeeded);
+            if(!succeeded && shouldOpen(admitted.window)) {
+                phase.compareAndSet(admitted, Phase.open(config.getNanoClock().getAsLong()));
+            }
+        } else if(!succeeded) {
+            phase.compareAndSet(admitted, Phase.open(config.getNanoClock().getAsLong()));
+        } else if(admitted.probeSuccesses.incrementAndGet() == config.getHalfOpenProbes()) {
+            phase.compareAndSet(admitted, Phase.closed(config.getWindowSize()));
+        }
+    }
+
+    private boolean shouldOpen(Window window) {
+        int buffered = window.buffered();
+        return buffered >= config.getMinimumCalls()
+                && window.failures() >= config.getFailureRateThreshold() * buffered;
+    }
+
+    /**
+     * @return true once the phase, open or half open, has lasted the open duration
+     */
+    private boolean elapsed(Phase timed) {
+        return config.getNanoClock().getAsLong() - timed.since >= config.getOpenNanos();
+    }
+
+    /**
+     * One stay in a state. A new Phase is created on every transition, so outcomes can be matched to the phase that
+     * admitted them and a closed circuit always starts with an empty window.
+     */
+    private static final class Phase {
+        private final State state;
+        private final Window window;
+        private final long since;
+        private final AtomicInteger permits;
+        private final AtomicInteger probeSuccesses;
+
+        private Phase(State state, Window window, long since, AtomicInteger permits, AtomicInteger probeSuccesses) {
+            this.state = state;
+            this.window = window;
+            this.since = since;
+            this.permits = permits;
+            this.probeSuccesses = probeSuccesses;
+        }
+
+        private static Phase closed(int windowSize) {
+            return new Phase(State.CLOSED, new Window(windowSize), 0, null, null);
+        }
+
+        private static Phase open(long openedAt) {
+            return new Phase(State.OPEN, null, openedAt, null, null);
+        }
+
+        private static Phase halfOpen(int probes, long since) {
+            return new Phase(State.HALF_OPEN, null, since, new AtomicInteger(probes), new AtomicInteger());
+        }
+
+        /**
+         * @return true if a half open probe permit was taken, never taking the permits below zero
+         */
+        private boolean takePermit() {
+            while(true) {
+                int available = permits.get();
+                if(available == 0) {
+                    return false;
+                }
+                if(permits.compareAndSet(available, available - 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * The outcomes of the last size calls, in a ring of slots overwritten oldest first. The failure count is adjusted
+     * by whatever each write replaces, so it always matches the slots once writers are done.
+     */
+    private static final class Window {
+        private static final int EMPTY = 0;
+        private static final int SUCCESS = 1;
+        private static final int FAILURE = 2;
+
+        private final int size;
+        private final AtomicIntegerArray slots;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private Window(int size) {
+            this.size = size;
+            this.slots = new AtomicIntegerArray(size);
+        }
+
+        private void record(boolean failed) {
+            int slot = (int) (cursor.getAndIncrement() % size);
+            int replaced = slots.getAndSet(slot, failed ? FAILURE : SUCCESS);
+
+            if(failed && replaced != FAILURE) {
+                failures.incrementAndGet();
+            } else if(!failed && replaced == FAILURE) {
+                failures.decrementAndGet();
+            }
+        }
+
+        private int buffered() {
+            return (int) Math.min(cursor.get(), size);
+        }
+
+        private int failures() {
+            return failures.get();
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package dev.errant.bettertype.basic.absorber;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * When a {@link CircuitBreaker} opens and how it recovers.
+ *
+ * The breaker remembers the outcomes of the last windowSize calls. Once at least minimumCalls outcomes are known (by
+ * default a whole window) and the share of failures among them reaches failureRateThreshold, the circuit opens. After
+ * openDuration it lets halfOpenProbes calls through; if they all succeed it closes again with an empty window, if any
+ * fails, or they have not all reported back within another openDuration, it opens again for another openDuration.
+ *
+ * Configurations are immutable, each withX method returns a new configuration.
+ */
+public final class CircuitBreakerConfig {
+    private final double failureRateThreshold;
+    private final int windowSize;
+    private final Duration openDuration;
+    private final int minimumCalls;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+
+    private CircuitBreakerConfig(double failureRateThreshold, int windowSize, Duration openDuration, int minimumCalls,
+                                 int halfOpenProbes, LongSupplier nanoClock) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.windowSize = windowSize;
+        this.openDuration = openDuration;
+        this.minimumCalls = minimumCalls;
+        this.halfOpenProbes = halfOpenProbes;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param failureRateThreshold the share of failed calls (above 0, up to 1) at which the circuit opens
+     * @param windowSize the number of most recent calls the failure rate is taken over
+     * @param openDuration how long the circuit stays open before letting probes through
+     * @return a configuration with a single half open probe
+     */
+    public static CircuitBreakerConfig of(double failureRateThreshold, int windowSize, Duration openDuration) {
+        if(!(failureRateThreshold > 0.0 && failureRateThreshold <= 1.0)) {
+            throw new IllegalArgumentException("failureRateThreshold must be above 0 and at most 1, was " + failureRateThreshold);
+        }
+        if(windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be at least 1, was " + windowSize);
+        }
+        if(openDuration.isNegative()) {
+            throw new IllegalArgumentException("openDuration must not be negative, was " + openDuration);
+        }
+
+        return new CircuitBreakerConfig(failureRateThreshold, windowSize, openDuration, windowSize, 1, System::nanoTime);
+    }
+
+    /**
+     * @param minimumCalls the number of outcomes needed (at most windowSize) before the failure rate is acted on
+     * @return a copy of this configuration with the given minimum
+     */
+    public CircuitBreakerConfig withMinimumCalls(int minimumCalls) {
+        if(minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize, was " + minimumCalls);
+        }
+
+        return new CircuitBreakerConfig(failureRateThreshold, windowSize, openDuration, minimumCalls, halfOpenProbes, nanoClock);
+    }
+
+    /**
+     * @param halfOpenProbes the number of calls let through when half open, all of which must succeed to close
+     * @return a copy of this configuration with the given number of probes
+     */
+    public CircuitBreakerConfig withHalfOpenProbes(int halfOpenProbes) {
+        if(halfOpenProbes < 1) {
+            throw new IllegalArgumentException("halfOpenProbes must be at least 1, was " + halfOpenProbes);
+        }
+
+        return new CircuitBreakerConfig(failureRateThreshold, windowSize, openDuration, minimumCalls, halfOpenProbes, nanoClock);
+    }
+
+    /**
+     * @param nanoClock the time source in nanoseconds, as System.nanoTime (mainly for testing)
+     * @return a copy of this configuration with the given clock
+     */
+    public CircuitBreakerConfig withClock(LongSupplier nanoClock) {
+        assert(nanoClock!=null);
+
+        return new CircuitBreakerConfig(failureRateThreshold, windowSize, openDuration, minimumCalls, halfOpenProbes, nanoClock);
+    }
+
+    double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    int getWindowSize() {
+        return windowSize;
+    }
+
+    long getOpenNanos() {
+        return openDuration.toNanos();
+    }
+
+    int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    LongSupplier getNanoClock() {
+        return nanoClock;
+    }
+
+}
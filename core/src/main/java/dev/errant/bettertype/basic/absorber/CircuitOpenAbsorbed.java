@@ -0,0 +1,28 @@
+package dev.errant.bettertype.basic.absorber;
+
+/**
+ * Passed to the ExceptionConverter when a {@link CircuitBreaker} was open, so the action was not run at all.
+ */
+public class CircuitOpenAbsorbed extends AbsorbedMarker {
+    private static final long serialVersionUID = 1L;
+
+    private static final String MESSAGE = "the circuit was open, the action was not run";
+
+    private static final CircuitOpenAbsorbed INSTANCE = new CircuitOpenAbsorbed(false);
+
+    public CircuitOpenAbsorbed() {
+        super(MESSAGE);
+    }
+
+    private CircuitOpenAbsorbed(boolean writableStackTrace) {
+        super(MESSAGE, writableStackTrace);
+    }
+
+    /**
+     * @return the shared, stackless marker passed to ExceptionConverters by the circuit breaker
+     */
+    public static CircuitOpenAbsorbed instance() {
+        return INSTANCE;
+    }
+
+}
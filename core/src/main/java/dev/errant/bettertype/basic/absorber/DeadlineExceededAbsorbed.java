@@ -0,0 +1,28 @@
+package dev.errant.bettertype.basic.absorber;
+
+/**
+ * Passed to the ExceptionConverter when an action absorbed with a deadline had not finished in time and was cancelled.
+ */
+public class DeadlineExceededAbsorbed extends AbsorbedMarker {
+    private static final long serialVersionUID = 1L;
+
+    private static final String MESSAGE = "the action did not finish before its deadline";
+
+    private static final DeadlineExceededAbsorbed INSTANCE = new DeadlineExceededAbsorbed(false);
+
+    public DeadlineExceededAbsorbed() {
+        super(MESSAGE);
+    }
+
+    private DeadlineExceededAbsorbed(boolean writableStackTrace) {
+        super(MESSAGE, writableStackTrace);
+    }
+
+    /**
+     * @return the shared, stackless marker passed to ExceptionConverters when a deadline passes
+     */
+    public static DeadlineExceededAbsorbed instance() {
+        return INSTANCE;
+    }
+
+}
@@ -0,0 +1,26 @@
+package dev.errant.bettertype.basic.absorber;
+
+import java.time.Duration;
+
+/**
+ * Converts the Durations given to the absorbers and caches into the nanoseconds they count with.
+ */
+public final class Durations {
+
+    private Durations() {
+    }
+
+    /**
+     * @param duration a duration, which should not be negative
+     * @return the duration in nanoseconds, or Long.MAX_VALUE for a duration too long to count in nanoseconds, which
+     * is as good as forever
+     */
+    public static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package dev.errant.bettertype.basic.absorber;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * A success value served by {@link StaleIfErrorAbsorber}; either fresh from the action just absorbed, or an earlier
+ * success served because the action failed. A stale value carries its age and the converted failure that caused it
+ * to be served.
+ *
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+public final class MaybeStale<S, F> {
+    private final S value;
+    private final long ageNanos;
+    private final F failure;
+
+    private MaybeStale(S value, long ageNanos, F failure) {
+        this.value = value;
+        this.ageNanos = ageNanos;
+        this.failure = failure;
+    }
+
+    static <S, F> MaybeStale<S, F> fresh(S value) {
+        return new MaybeStale<>(value, 0, null);
+    }
+
+    static <S, F> MaybeStale<S, F> stale(S value, long ageNanos, F failure) {
+        assert(failure!=null);
+
+        return new MaybeStale<>(value, ageNanos, failure);
+    }
+
+    /**
+     * @return the success value, fresh or stale
+     */
+    public S getValue() {
+        return value;
+    }
+
+    /**
+     * @return true if the action failed and an earlier success was served in its place
+     */
+    public boolean isStale() {
+        return failure != null;
+    }
+
+    /**
+     * @return how long before this call the value was produced, zero for a fresh value
+     */
+    public Duration getAge() {
+        return Duration.ofNanos(ageNanos);
+    }
+
+    /**
+     * @return the converted failure of the action when the value is stale, empty when it is fresh
+     */
+    public Optional<F> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    @Override
+    public String toString() {
+        if(failure == null) {
+            return String.valueOf(value);
+        }
+        return value + " (stale by " + getAge().toMillis() + "ms after " + failure + ")";
+    }
+
+}
@@ -11,10 +11,26 @@ package dev.errant.bettertype.basic.absorber;
  * This is a compromise between keeping a simple API for implementers and handling nulls. This approach retains the
  * ability to define the ExceptionConverter inline as a function.
  */
-public class NullValueAbsorbed extends Exception {
+public class NullValueAbsorbed extends AbsorbedMarker {
+    private static final long serialVersionUID = 1L;
+
+    private static final String MESSAGE = "a null return value was absorbed";
+
+    private static final NullValueAbsorbed INSTANCE = new NullValueAbsorbed(false);
 
     public NullValueAbsorbed() {
-        super("a null return value was absorbed");
+        super(MESSAGE);
+    }
+
+    private NullValueAbsorbed(boolean writableStackTrace) {
+        super(MESSAGE, writableStackTrace);
+    }
+
+    /**
+     * @return the shared, stackless marker passed to ExceptionConverters by the absorbers
+     */
+    public static NullValueAbsorbed instance() {
+        return INSTANCE;
     }
 
 }
@@ -0,0 +1,142 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Absorbs many independent actions in parallel on a ForkJoinPool, splitting the work between the pool's threads.
+ *
+ * Each action is absorbed exactly as {@link Failable#absorb(AbsorbableSupplierAction, ExceptionConverter)} would, the
+ * outcomes are returned in input order along with the successes and failures as separate partitions.
+ *
+ * The calling thread returns once every action has been absorbed. If it is itself a worker of the pool it takes part
+ * in the work, otherwise it only waits while the pool's threads run the actions. Actions that block occupy a pool thread
+ * while they do, so prefer a dedicated pool over the common pool for blocking work.
+ */
+public final class ParallelAbsorber {
+
+    /**
+     * Each worker's share of the actions is split into roughly this many tasks, so a few slow actions do not hold up
+     * a whole share while other workers sit idle
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    private ParallelAbsorber() {
+    }
+
+    /**
+     * Absorb every action on the common ForkJoinPool.
+     *
+     * @param actions the actions to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param <S> the success type (inferred from actions)
+     * @param <F> the failable type (inferred from converter)
+     * @return the outcome of every action in iteration order, with successes and failures partitioned
+     */
+    public static <S, F> BulkAbsorbResult<S, F> absorbAll(Collection<? extends AbsorbableSupplierAction<S>> actions, ExceptionConverter<F> converter) {
+        return absorbAll(actions, converter, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Absorb every action on the given ForkJoinPool.
+     *
+     * @param actions the actions to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param pool runs the actions
+     * @param <S> the success type (inferred from actions)
+     * @param <F> the failable type (inferred from converter)
+     * @return the outcome of every action in iteration order, with successes and failures partitioned
+     */
+    public static <S, F> BulkAbsorbResult<S, F> absorbAll(Collection<? extends AbsorbableSupplierAction<S>> actions, ExceptionConverter<F> converter, ForkJoinPool pool) {
+        return absorbEach(actions, AbsorbableSupplierAction::act, converter, pool);
+    }
+
+    /**
+     * Apply the function to every input on the common ForkJoinPool, absorbing each call.
+     *
+     * @param inputs the inputs to apply the function to
+     * @param function the function to apply
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param <I> the input type
+     * @param <S> the success type (inferred from function)
+     * @param <F> the failable type (inferred from converter)
+     * @return the outcome for every input in iteration order, with successes and failures partitioned
+     */
+    public static <I, S, F> BulkAbsorbResult<S, F> absorbEach(Collection<? extends I> inputs, AbsorbableFunctionAction<? super I, S> function, ExceptionConverter<F> converter) {
+        return absorbEach(inputs, function, converter, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Apply the function to every input on the given ForkJoinPool, absorbing each call.
+     *
+     * @param inputs the inputs to apply the function to
+     * @param function the function to apply
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param pool runs the function
+     * @param <I> the input type
+     * @param <S> the success type (inferred from function)
+     * @param <F> the failable type (inferred from converter)
+     * @return the outcome for every input in iteration order, with successes and failures partitioned
+     */
+    public static <I, S, F> BulkAbsorbResult<S, F> absorbEach(Collection<? extends I> inputs, AbsorbableFunctionAction<? super I, S> function, ExceptionConverter<F> converter, ForkJoinPool pool) {
+        Object[] indexedInputs = inputs.toArray();
+        @SuppressWarnings("unchecked")
+        Failable<S, F>[] outcomes = (Failable<S, F>[]) new Failable<?, ?>[indexedInputs.length];
+
+        if(indexedInputs.length > 0) {
+            int threshold = Math.max(1, indexedInputs.length / (pool.getParallelism() * TASKS_PER_THREAD));
+            pool.invoke(new AbsorbRange<I, S, F>(indexedInputs, function, converter, outcomes, 0, indexedInputs.length, threshold));
+        }
+
+        return new BulkAbsorbResult<>(outcomes);
+    }
+
+    /**
+     * Absorbs the inputs in [from, to), splitting in half until the range is no larger than the threshold
+     */
+    private static final class AbsorbRange<I, S, F> extends RecursiveAction {
+        // never serialised, declared as ForkJoinTask is Serializable
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] inputs;
+        private final AbsorbableFunctionAction<? super I, S> function;
+        private final ExceptionConverter<F> converter;
+        private final Failable<S, F>[] outcomes;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private AbsorbRange(Object[] inputs, AbsorbableFunctionAction<? super I, S> function, ExceptionConverter<F> converter,
+                            Failable<S, F>[] outcomes, int from, int to, int threshold) {
+            this.inputs = inputs;
+            this.function = function;
+            this.converter = converter;
+            this.outcomes = outcomes;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if(to - from <= threshold) {
+                for(int i = from; i < to; i++) {
+                    I input = (I) inputs[i];
+                    outcomes[i] = Failable.absorb(() -> function.act(input), converter);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new AbsorbRange<I, S, F>(inputs, function, converter, outcomes, from, middle, threshold),
+                        new AbsorbRange<I, S, F>(inputs, function, converter, outcomes, middle, to, threshold)
+                );
+            }
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package dev.errant.bettertype.basic.absorber;
+
+import java.time.Duration;
+
+/**
+ * The failure of the last attempt made by {@link RetryingAbsorber}, along with how many attempts were made and how long
+ * they took in total, including the waits between them.
+ *
+ * @param <F> the failure type
+ */
+public final class RetriedFailure<F> {
+    private final F failure;
+    private final int attempts;
+    private final Duration elapsed;
+
+    RetriedFailure(F failure, int attempts, Duration elapsed) {
+        this.failure = failure;
+        this.attempts = attempts;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @return the converted failure of the last attempt
+     */
+    public F getFailure() {
+        return failure;
+    }
+
+    /**
+     * @return the number of attempts made
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return the time from the first attempt starting to the last attempt failing
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return failure + " (after " + attempts + " attempts in " + elapsed.toMillis() + "ms)";
+    }
+
+}
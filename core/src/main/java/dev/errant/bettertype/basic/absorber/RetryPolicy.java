@@ -0,0 +1,118 @@
+package dev.errant.bettertype.basic.absorber;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiPredicate;
+
+/**
+ * How {@link RetryingAbsorber} retries a failing action; how many attempts to make, how long to wait between them and
+ * which failures are worth retrying at all.
+ *
+ * The wait before retry n (counting from 1) is initialDelay * multiplier^(n-1), capped at maxDelay, then reduced by a
+ * random amount of up to jitter (a fraction between 0 and 1) of itself, so that many callers failing together do not
+ * all retry together.
+ *
+ * Policies are immutable, each withX method returns a new policy. The defaults are a 100ms initial delay, a multiplier
+ * of 2, a 10s maximum delay, a jitter of 0.2 and every failure being retried.
+ *
+ * @param <F> the failure type the retry predicate inspects
+ */
+public final class RetryPolicy<F> {
+    private static final BiPredicate<Exception, Object> ALWAYS = (exception, failure) -> true;
+
+    private final int maxAttempts;
+    private final Duration initialDelay;
+    private final double multiplier;
+    private final Duration maxDelay;
+    private final double jitter;
+    private final BiPredicate<? super Exception, ? super F> retryIf;
+
+    private RetryPolicy(int maxAttempts, Duration initialDelay, double multiplier, Duration maxDelay, double jitter,
+                        BiPredicate<? super Exception, ? super F> retryIf) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.multiplier = multiplier;
+        this.maxDelay = maxDelay;
+        this.jitter = jitter;
+        this.retryIf = retryIf;
+    }
+
+    /**
+     * @param maxAttempts the total number of attempts, including the first
+     * @param <F> the failure type the retry predicate inspects
+     * @return a policy with the default backoff that retries every failure
+     */
+    public static <F> RetryPolicy<F> of(int maxAttempts) {
+        if(maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1, was " + maxAttempts);
+        }
+
+        return new RetryPolicy<>(maxAttempts, Duration.ofMillis(100), 2.0, Duration.ofSeconds(10), 0.2, ALWAYS);
+    }
+
+    /**
+     * @param initialDelay the wait before the first retry
+     * @param multiplier the factor each following wait grows by, at least 1
+     * @param maxDelay the longest wait between attempts
+     * @return a copy of this policy with the given backoff
+     */
+    public RetryPolicy<F> withBackoff(Duration initialDelay, double multiplier, Duration maxDelay) {
+        if(initialDelay.isNegative()) {
+            throw new IllegalArgumentException("initialDelay must not be negative, was " + initialDelay);
+        }
+        if(!(multiplier >= 1.0)) {
+            throw new IllegalArgumentException("multiplier must be at least 1, was " + multiplier);
+        }
+        if(maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException("maxDelay must not be less than initialDelay, was " + maxDelay);
+        }
+
+        return new RetryPolicy<>(maxAttempts, initialDelay, multiplier, maxDelay, jitter, retryIf);
+    }
+
+    /**
+     * @param jitter the largest fraction (between 0 and 1) of each wait that may be randomly taken off it
+     * @return a copy of this policy with the given jitter
+     */
+    public RetryPolicy<F> withJitter(double jitter) {
+        if(!(jitter >= 0.0 && jitter <= 1.0)) {
+            throw new IllegalArgumentException("jitter must be between 0 and 1, was " + jitter);
+        }
+
+        return new RetryPolicy<>(maxAttempts, initialDelay, multiplier, maxDelay, jitter, retryIf);
+    }
+
+    /**
+     * @param retryIf given the exception thrown (or {@link NullValueAbsorbed}) and its converted failure, decides
+     *                whether another attempt is worthwhile
+     * @return a copy of this policy which only retries when the predicate holds
+     */
+    public RetryPolicy<F> withRetryIf(BiPredicate<? super Exception, ? super F> retryIf) {
+        assert(retryIf!=null);
+
+        return new RetryPolicy<>(maxAttempts, initialDelay, multiplier, maxDelay, jitter, retryIf);
+    }
+
+    /**
+     * @return the total number of attempts, including the first
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    boolean shouldRetry(int attempts, Exception exception, F failure) {
+        return attempts < maxAttempts && retryIf.test(exception, failure);
+    }
+
+    /**
+     * @param retry the retry about to be made, counting from 1
+     * @return the wait before it in nanoseconds
+     */
+    long delayNanos(int retry) {
+        double delay = initialDelay.toNanos() * Math.pow(multiplier, retry - 1);
+        double capped = Math.min(delay, maxDelay.toNanos());
+
+        return (long) (capped - capped * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+}
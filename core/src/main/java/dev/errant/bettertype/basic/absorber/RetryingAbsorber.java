@@ -0,0 +1,191 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Absorbs an action, retrying it according to a {@link RetryPolicy} while it fails. No thread is held during the waits
+ * between attempts; each retry is scheduled on a ScheduledExecutorService and the caller is handed a CompletableFuture.
+ *
+ * The future completes with the first success, or with a {@link RetriedFailure} holding the last converted failure,
+ * the number of attempts and the total time taken. As with absorbAsync, it only completes exceptionally if the
+ * converter throws, or the action throws an Error. Cancelling the future stops any further attempts.
+ *
+ * If the scheduler rejects an attempt (e.g. it has been shut down) the RejectedExecutionException is converted and
+ * becomes the final failure.
+ *
+ * Attempts run the action directly rather than through Failable.absorb, as the policy decides on the raw exception, so
+ * they are neither recorded by an installed AbsorbRecorder nor emitted as Flight Recorder events.
+ */
+public final class RetryingAbsorber {
+
+    private RetryingAbsorber() {
+    }
+
+    /**
+     * Absorb the action, running every attempt on the scheduler. Keep the actions short or use
+     * {@link #absorb(AbsorbableSupplierAction, ExceptionConverter, RetryPolicy, ScheduledExecutorService, Executor)},
+     * as a blocked scheduler thread delays every retry waiting on it.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param policy decides whether, and when, to retry
+     * @param scheduler times the waits between attempts and runs the attempts
+     * @param <S> the success type (inferred from action)
+     * @param <F> the failable type (inferred from converter)
+     * @return a future completed with the success value or the last failure
+     */
+    public static <S, F> CompletableFuture<Failable<S, RetriedFailure<F>>> absorb(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter,
+                                                                                 RetryPolicy<F> policy, ScheduledExecutorService scheduler) {
+        return absorb(action, converter, policy, scheduler, scheduler);
+    }
+
+    /**
+     * Absorb the action, running every attempt on the executor and using the scheduler only to time the waits.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param policy decides whether, and when, to retry
+     * @param scheduler times the waits between attempts
+     * @param executor runs the attempts
+     * @param <S> the success type (inferred from action)
+     * @param <F> the failable type (inferred from converter)
+     * @return a future completed with the success value or the last failure
+     */
+    public static <S, F> CompletableFuture<Failable<S, RetriedFailure<F>>> absorb(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter,
+                                                                                 RetryPolicy<F> policy, ScheduledExecutorService scheduler, Executor executor) {
+        Retry<S, F> retry = new Retry<>(action, converter, policy, scheduler, executor);
+        retry.submit(0);
+
+        return retry.result;
+    }
+
+    private static final class Retry<S, F> {
+        private final AbsorbableSupplierAction<S> action;
+        private final ExceptionConverter<F> converter;
+        private final RetryPolicy<F> policy;
+        private final ScheduledExecutorService scheduler;
+        private final Executor executor;
+
+        private final CompletableFuture<Failable<S, RetriedFailure<F>>> result = new CompletableFuture<>();
+        private final long started = System.nanoTime();
+
+        private int attempts;
+        private volatile ScheduledFuture<?> pending;
+
+        private Retry(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter, RetryPolicy<F> policy,
+                      ScheduledExecutorService scheduler, Executor executor) {
+            this.action = action;
+            this.converter = converter;
+            this.policy = policy;
+            this.scheduler = scheduler;
+            this.executor = executor;
+
+            result.whenComplete((outcome, failure) -> {
+                ScheduledFuture<?> waiting = pending;
+                if(waiting != null) {
+                    waiting.cancel(false);
+                }
+            });
+        }
+
+        /**
+         * Attempts never overlap, each one is submitted by the end of the previous one, so attempts needs no locking
+         * beyond the happens-before edges of the executors
+         */
+        private void submit(long delayNanos) {
+            try {
+                if(delayNanos <= 0) {
+                    // nothing to wait for, so nothing pending to cancel; this is also how the first attempt starts, on
+                    // the caller's thread, where keeping it as pending could race with the retry it schedules
+                    executor.execute(this::attempt);
+                } else if(executor == scheduler) {
+                    schedule(scheduler.schedule(this::attempt, delayNanos, TimeUnit.NANOSECONDS));
+                } else {
+                    schedule(scheduler.schedule(this::handOff, delayNanos, TimeUnit.NANOSECONDS));
+                }
+            } catch (RejectedExecutionException rejected) {
+                fail(rejected);
+            }
+        }
+
+        /**
+         * Keeps the pending wait so that completing (or cancelling) the result cancels it. Only called by attempts, which
+         * never overlap, so a newer wait is never replaced by an older one
+         */
+        private void schedule(ScheduledFuture<?> next) {
+            pending = next;
+            if(result.isDone()) {
+                // completed while the wait was being scheduled, so the whenComplete callback may have missed it
+                next.cancel(false);
+            }
+        }
+
+        private void handOff() {
+            try {
+                executor.execute(this::attempt);
+            } catch (RejectedExecutionException rejected) {
+                fail(rejected);
+            }
+        }
+
+        private void attempt() {
+            if(result.isDone()) {
+                return;
+            }
+
+            try {
+                attempts++;
+
+                S outcome = null;
+                Exception exception = null;
+                try {
+                    outcome = action.act();
+                } catch (Exception caught) {
+                    exception = caught;
+                }
+
+                if(outcome != null) {
+                    result.complete(Failable.success(outcome));
+                    return;
+                }
+                if(exception == null) {
+                    exception = NullValueAbsorbed.instance();
+                }
+
+                F failure = converter.convertToFailure(exception);
+                if(policy.shouldRetry(attempts, exception, failure)) {
+                    submit(policy.delayNanos(attempts));
+                } else {
+                    complete(failure);
+                }
+            } catch (Throwable t) {
+                // an Error from the action, or anything the converter or policy throws, would otherwise be lost in
+                // the executor and leave the result incomplete forever
+                result.completeExceptionally(t);
+            }
+        }
+
+        private void fail(RejectedExecutionException rejected) {
+            try {
+                complete(converter.convertToFailure(rejected));
+            } catch (RuntimeException | Error converterFailure) {
+                result.completeExceptionally(converterFailure);
+            }
+        }
+
+        private void complete(F failure) {
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+            result.complete(Failable.failure(new RetriedFailure<>(failure, attempts, elapsed)));
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces concurrent absorbs of the same key; while an action for a key is running, other callers for that key wait
+ * for it and receive the same Failable rather than running their own action. Useful in front of a loader that a crowd
+ * of threads would otherwise call at once, e.g. when a popular cached value expires.
+ * <pre>{@code
+ *     private final SingleFlightAbsorber<String, Chicken, String> lookups =
+ *             SingleFlightAbsorber.of(ExceptionConverters.messagePrintingConverter());
+ *
+ *     public Failable<Chicken, String> findChicken(String name) {
+ *         return lookups.absorb(name, () -> coopRegistry.lookup(name));
+ *     }
+ * }</pre>
+ *
+ * Nothing is remembered once the action completes; a call arriving afterwards runs the action again. Each key's entry
+ * is removed from the in-flight table by the thread that ran the action, with no lock beyond the table's own.
+ *
+ * Waiting callers cannot be interrupted, they are released only when the running action completes. A call for a key
+ * made from inside the action running for that same key runs its action directly, rather than waiting for itself.
+ *
+ * @param <K> the key type
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+public final class SingleFlightAbsorber<K, S, F> {
+    private final ExceptionConverter<F> converter;
+    private final ConcurrentHashMap<K, Flight<S, F>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    private SingleFlightAbsorber(ExceptionConverter<F> converter) {
+        this.converter = converter;
+    }
+
+    /**
+     * @param converter converts exceptions thrown by the actions into failure values
+     * @param <K> the key type
+     * @param <S> the success type
+     * @param <F> the failure type
+     * @return an absorber with nothing in flight
+     */
+    public static <K, S, F> SingleFlightAbsorber<K, S, F> of(ExceptionConverter<F> converter) {
+        assert(converter!=null);
+
+        return new SingleFlightAbsorber<>(converter);
+    }
+
+    /**
+     * @param key identifies the work; calls with equal keys share one execution while it is running
+     * @param action the action to absorb if no execution for the key is running
+     * @return the outcome of this caller's action, or of the execution already running for the key
+     */
+    public Failable<S, F> absorb(K key, AbsorbableSupplierAction<S> action) {
+        return absorb(key, action, outcome -> {});
+    }
+
+    /**
+     * As {@link #absorb(Object, AbsorbableSupplierAction)}, also handing the outcome to onOutcome before any waiting
+     * caller is released, e.g. to store it somewhere later callers will look first.
+     *
+     * @param key identifies the work; calls with equal keys share one execution while it is running
+     * @param action the action to absorb if no execution for the key is running
+     * @param onOutcome called once per execution, by the thread that ran the action
+     * @return the outcome of this caller's action, or of the execution already running for the key
+     */
+    public Failable<S, F> absorb(K key, AbsorbableSupplierAction<S> action, Consumer<? super Failable<S, F>> onOutcome) {
+        assert(key!=null);
+
+        Flight<S, F> flight = new Flight<>(Thread.currentThread());
+        Flight<S, F> running = inFlight.putIfAbsent(key, flight);
+
+        if(running != null) {
+            if(running.leader != Thread.currentThread()) {
+                coalesced.increment();
+                return running.await();
+            }
+
+            // called from inside the running action, waiting for it would never return
+            Failable<S, F> outcome = Failable.absorb(action, converter);
+            onOutcome.accept(outcome);
+            return outcome;
+        }
+
+        try {
+            Failable<S, F> outcome = Failable.absorb(action, converter);
+            onOutcome.accept(outcome);
+            flight.complete(outcome);
+            return outcome;
+        } catch (RuntimeException | Error e) {
+            // the converter or onOutcome threw, the waiting callers get the same
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * @return the number of keys with an execution currently running
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return the number of calls that received the outcome of another caller's execution
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * One execution, completed by the thread that runs it
+     */
+    private static final class Flight<S, F> extends CompletableFuture<Failable<S, F>> {
+        private final Thread leader;
+
+        private Flight(Thread leader) {
+            this.leader = leader;
+        }
+
+        private Failable<S, F> await() {
+            try {
+                return join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if(cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw (RuntimeException) cause;
+            }
+        }
+    }
+
+}
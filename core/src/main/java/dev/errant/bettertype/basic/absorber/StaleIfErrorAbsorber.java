@@ -0,0 +1,141 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Serves the last success for a key when a fresh absorb for that key fails, so a brief backend outage degrades read
+ * paths to slightly old values rather than failures.
+ * <pre>{@code
+ *     private final StaleIfErrorAbsorber<String, Chicken, String> chickens = StaleIfErrorAbsorber.of(
+ *             ExceptionConverters.messagePrintingConverter(),
+ *             Duration.ofMinutes(5)
+ *     );
+ *
+ *     public Failable<MaybeStale<Chicken, String>, String> findChicken(String name) {
+ *         return chickens.absorb(name, () -> coopRegistry.lookup(name));
+ *     }
+ * }</pre>
+ *
+ * Every call runs the action; this is not a cache. A failure is always converted, and when a success no older than
+ * maxStaleness is remembered for the key it is returned as a stale {@link MaybeStale} carrying the converted failure
+ * (so it can still be reported) and its age. Otherwise the failure is returned.
+ *
+ * One success is remembered per key until it is replaced, outlives maxStaleness and is found by a failing call, or is
+ * forgotten with {@link #forget(Object)}; keys should come from a bounded set, such as call sites or configuration
+ * names.
+ *
+ * @param <K> the key type
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+public final class StaleIfErrorAbsorber<K, S, F> {
+    private final ExceptionConverter<F> converter;
+    private final long maxStalenessNanos;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentHashMap<K, LastSuccess<S>> lastSuccesses = new ConcurrentHashMap<>();
+    private final LongAdder staleServed = new LongAdder();
+
+    private StaleIfErrorAbsorber(ExceptionConverter<F> converter, long maxStalenessNanos, LongSupplier nanoClock) {
+        this.converter = converter;
+        this.maxStalenessNanos = maxStalenessNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param converter converts exceptions thrown by the actions into failure values
+     * @param maxStaleness the maximum age of a success served in place of a failure
+     * @param <K> the key type
+     * @param <S> the success type
+     * @param <F> the failure type
+     * @return an absorber remembering no successes yet
+     */
+    public static <K, S, F> StaleIfErrorAbsorber<K, S, F> of(ExceptionConverter<F> converter, Duration maxStaleness) {
+        return of(converter, maxStaleness, System::nanoTime);
+    }
+
+    /**
+     * @param converter converts exceptions thrown by the actions into failure values
+     * @param maxStaleness the maximum age of a success served in place of a failure
+     * @param nanoClock the time source in nanoseconds, as System.nanoTime (mainly for testing)
+     * @param <K> the key type
+     * @param <S> the success type
+     * @param <F> the failure type
+     * @return an absorber remembering no successes yet
+     */
+    public static <K, S, F> StaleIfErrorAbsorber<K, S, F> of(ExceptionConverter<F> converter, Duration maxStaleness,
+                                                              LongSupplier nanoClock) {
+        assert(converter!=null);
+        assert(nanoClock!=null);
+        if(maxStaleness.isNegative()) {
+            throw new IllegalArgumentException("maxStaleness must not be negative, was " + maxStaleness);
+        }
+
+        return new StaleIfErrorAbsorber<>(converter, Durations.saturatedNanos(maxStaleness), nanoClock);
+    }
+
+    /**
+     * @param key identifies the value, successes are only served in place of failures with an equal key
+     * @param action the action to absorb
+     * @return a fresh success, a stale success if the action failed, or the failure if no recent success is known
+     */
+    public Failable<MaybeStale<S, F>, F> absorb(K key, AbsorbableSupplierAction<S> action) {
+        assert(key!=null);
+
+        Failable<S, F> fresh = Failable.absorb(action, converter);
+        long now = nanoClock.getAsLong();
+
+        if(fresh.isSuccess()) {
+            S value = fresh.getSuccess();
+            lastSuccesses.put(key, new LastSuccess<>(value, now));
+            return Failable.success(MaybeStale.fresh(value));
+        }
+
+        LastSuccess<S> last = lastSuccesses.get(key);
+        if(last != null) {
+            long age = now - last.producedAt;
+            if(age <= maxStalenessNanos) {
+                staleServed.increment();
+                return Failable.success(MaybeStale.stale(last.value, age, fresh.getFailure()));
+            }
+
+            // too old to ever be served again, only a newer success could replace it
+            lastSuccesses.remove(key, last);
+        }
+
+        return Failable.failure(fresh.getFailure());
+    }
+
+    /**
+     * @param key the key whose remembered success should no longer be served
+     */
+    public void forget(K key) {
+        assert(key!=null);
+
+        lastSuccesses.remove(key);
+    }
+
+    /**
+     * @return the number of calls that served a stale success in place of a failure
+     */
+    public long getStaleServedCount() {
+        return staleServed.sum();
+    }
+
+    private static final class LastSuccess<S> {
+        private final S value;
+        private final long producedAt;
+
+        private LastSuccess(S value, long producedAt) {
+            this.value = value;
+            this.producedAt = producedAt;
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Absorbs blocking actions on virtual threads, one per action, without sizing a thread pool.
+ *
+ * Virtual threads need Java 21. The bettertype-core jar is a multi-release jar; on Java 21 and later the JVM loads a
+ * version of this class that starts a virtual thread per action. This version, used on earlier Java versions, keeps the
+ * plain absorb behaviour and runs each action on the calling thread. {@link #isVirtual()} tells which is in use.
+ */
+public final class VirtualThreadAbsorber {
+
+    private VirtualThreadAbsorber() {
+    }
+
+    /**
+     * @return true if actions run on virtual threads, false if they run on the calling thread
+     */
+    public static boolean isVirtual() {
+        return false;
+    }
+
+    /**
+     * Absorb the action as {@link Failable#absorb(AbsorbableSupplierAction, ExceptionConverter)}, on a new virtual thread
+     * where available.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param <S> the success type (inferred from action)
+     * @param <F> the failable type (inferred from converter)
+     * @return a future completed with a Failable containing either the Success or Failure value
+     */
+    public static <S, F> CompletableFuture<Failable<S, F>> absorb(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter) {
+        return CompletableFuture.completedFuture(Failable.absorb(action, converter));
+    }
+
+    /**
+     * Absorb the action as {@link SimpleFailable#absorb(AbsorbableAction, ExceptionConverter)}, on a new virtual thread
+     * where available.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a exception into a more useful type
+     * @param <F> the failable type (inferred from converter)
+     * @return a future completed with a SimpleFailable of either success or the converted failure
+     */
+    public static <F> CompletableFuture<SimpleFailable<F>> absorbSimple(AbsorbableAction action, ExceptionConverter<F> converter) {
+        return CompletableFuture.completedFuture(SimpleFailable.absorb(action, converter));
+    }
+
+    /**
+     * Absorb every action, each on its own virtual thread where available, and wait for all of them to finish.
+     *
+     * @param actions the actions to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param <S> the success type (inferred from actions)
+     * @param <F> the failable type (inferred from converter)
+     * @return the outcome of each action, in the iteration order of actions
+     */
+    public static <S, F> List<Failable<S, F>> absorbAll(Collection<? extends AbsorbableSupplierAction<S>> actions, ExceptionConverter<F> converter) {
+        List<Failable<S, F>> results = new ArrayList<>(actions.size());
+
+        for(AbsorbableSupplierAction<S> action : actions) {
+            results.add(Failable.absorb(action, converter));
+        }
+
+        return results;
+    }
+
+}
@@ -0,0 +1,31 @@
+package dev.errant.bettertype.basic.absorber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event spanning one absorbed action, from the action starting to its outcome being ready. Disabled
+ * unless enabled in the recording settings.
+ */
+@Name(AbsorbEvent.NAME)
+@Label("Absorb")
+@Description("An action absorbed into a Failable or SimpleFailable")
+@Category({"BetterType", "Absorb"})
+@Enabled(false)
+@StackTrace(false)
+public final class AbsorbEvent extends Event {
+    public static final String NAME = "dev.errant.bettertype.Absorb";
+
+    @Label("Site")
+    @Description("The call site name given to the absorb, if any")
+    String site;
+
+    @Label("Success")
+    boolean success;
+
+}
@@ -0,0 +1,103 @@
+package dev.errant.bettertype.basic.absorber.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Emits the absorb Flight Recorder events on behalf of the absorbers.
+ *
+ * The absorbers only create events while {@link #isEnabled()}, that is while Flight Recorder has been started in the
+ * JVM and one of the events is enabled in a recording, e.g. with a custom .jfc settings file, or programmatically;
+ * <pre>{@code
+ *     Recording recording = new Recording();
+ *     recording.enable(AbsorbEvent.NAME);
+ *     recording.enable(AbsorbFailureEvent.NAME);
+ *     recording.start();
+ * }</pre>
+ * Otherwise the check is a couple of field reads and absorbing is unchanged. On a runtime without the jdk.jfr module,
+ * e.g. one built by jlink without it, isEnabled is always false and no Flight Recorder class is touched.
+ */
+public final class AbsorbEvents {
+
+    private AbsorbEvents() {
+    }
+
+    /**
+     * @return true if an absorb event is enabled in a running recording
+     */
+    public static boolean isEnabled() {
+        return Availability.PRESENT && Recorder.isEnabled();
+    }
+
+    /**
+     * @return an absorb event with its timing started
+     */
+    public static AbsorbEvent begin() {
+        AbsorbEvent event = new AbsorbEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param event the event returned by {@link #begin()}
+     * @param site the call site name, or null
+     * @param success true if the action succeeded
+     */
+    public static void end(AbsorbEvent event, String site, boolean success) {
+        event.end();
+        if(event.shouldCommit()) {
+            event.site = site;
+            event.success = success;
+            event.commit();
+        }
+    }
+
+    /**
+     * @param site the call site name, or null
+     * @param exception the exception absorbed
+     * @param failure what the converter made of it
+     */
+    public static void failure(String site, Exception exception, Object failure) {
+        AbsorbFailureEvent event = new AbsorbFailureEvent();
+        if(event.shouldCommit()) {
+            event.site = site;
+            event.exceptionClass = exception.getClass();
+            event.exceptionMessage = exception.getMessage();
+            event.failure = String.valueOf(failure);
+            event.commit();
+        }
+    }
+
+    /**
+     * Whether the runtime has Flight Recorder at all, resolved once on the first check
+     */
+    private static final class Availability {
+        private static final boolean PRESENT = isPresent();
+
+        private static boolean isPresent() {
+            try {
+                Class.forName("jdk.jfr.FlightRecorder", false, AbsorbEvents.class.getClassLoader());
+                return true;
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Only loaded once Flight Recorder is known to be present
+     */
+    private static final class Recorder {
+
+        private static boolean isEnabled() {
+            // the event types are only looked up once Flight Recorder is in use, as that registers them with it
+            return FlightRecorder.isInitialized() && (Types.ABSORB.isEnabled() || Types.FAILURE.isEnabled());
+        }
+    }
+
+    private static final class Types {
+        private static final EventType ABSORB = EventType.getEventType(AbsorbEvent.class);
+        private static final EventType FAILURE = EventType.getEventType(AbsorbFailureEvent.class);
+    }
+
+}
@@ -0,0 +1,36 @@
+package dev.errant.bettertype.basic.absorber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for each exception converted into a failure value by an absorb, carrying the exception type
+ * and what the ExceptionConverter made of it. Disabled unless enabled in the recording settings.
+ */
+@Name(AbsorbFailureEvent.NAME)
+@Label("Absorbed Failure")
+@Description("An exception absorbed and converted into a failure value")
+@Category({"BetterType", "Absorb"})
+@Enabled(false)
+public final class AbsorbFailureEvent extends Event {
+    public static final String NAME = "dev.errant.bettertype.AbsorbFailure";
+
+    @Label("Site")
+    @Description("The call site name given to the absorb, if any")
+    String site;
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+
+    @Label("Exception Message")
+    String exceptionMessage;
+
+    @Label("Failure")
+    @Description("The converted failure value, as a String")
+    String failure;
+
+}
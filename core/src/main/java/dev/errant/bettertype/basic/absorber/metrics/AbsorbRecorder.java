@@ -0,0 +1,22 @@
+package dev.errant.bettertype.basic.absorber.metrics;
+
+/**
+ * Receives the outcome of every absorb made through the site named absorb methods, e.g.
+ * {@link dev.errant.bettertype.basic.failable.Failable#absorb(String, dev.errant.bettertype.basic.absorber.AbsorbableSupplierAction, dev.errant.bettertype.basic.converter.exception.ExceptionConverter)}.
+ * Install one with {@link AbsorbRecorders#install(AbsorbRecorder)}.
+ *
+ * record is called on the absorbing thread, straight after the action, so implementations must be thread safe, cheap
+ * and must not throw.
+ */
+@FunctionalInterface
+public interface AbsorbRecorder {
+
+    /**
+     * @param site the name given to the absorb call site
+     * @param success true if the action succeeded
+     * @param exceptionType the type of the exception absorbed (NullValueAbsorbed for a null value), or null on success
+     * @param elapsedNanos how long the action took
+     */
+    void record(String site, boolean success, Class<? extends Exception> exceptionType, long elapsedNanos);
+
+}
@@ -0,0 +1,45 @@
+package dev.errant.bettertype.basic.absorber.metrics;
+
+/**
+ * Holds the AbsorbRecorder used by the site named absorb methods. Until one is installed the no-op recorder is used,
+ * and the absorbers skip timing altogether, so naming call sites costs nothing when metrics are not wanted.
+ */
+public final class AbsorbRecorders {
+    private static final AbsorbRecorder NOOP = (site, success, exceptionType, elapsedNanos) -> {};
+
+    private static volatile AbsorbRecorder installed = NOOP;
+
+    private AbsorbRecorders() {
+    }
+
+    /**
+     * @param recorder receives the outcome of every site named absorb from now on
+     */
+    public static void install(AbsorbRecorder recorder) {
+        assert(recorder!=null);
+
+        installed = recorder;
+    }
+
+    /**
+     * Go back to not recording anything.
+     */
+    public static void uninstall() {
+        installed = NOOP;
+    }
+
+    /**
+     * @return the installed recorder, or {@link #noop()} if there is none
+     */
+    public static AbsorbRecorder installed() {
+        return installed;
+    }
+
+    /**
+     * @return the recorder that does nothing, absorbers compare against it to skip timing
+     */
+    public static AbsorbRecorder noop() {
+        return NOOP;
+    }
+
+}
@@ -0,0 +1,75 @@
+package dev.errant.bettertype.basic.absorber.metrics;
+
+/**
+ * An immutable copy of a {@link LatencyHistogram}. Percentiles and the maximum are reported as the upper bound of the
+ * bucket they fall in, so they are never understated.
+ */
+public final class LatencySnapshot {
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+
+    LatencySnapshot(long[] counts, long totalNanos) {
+        long count = 0;
+        for(long bucketCount : counts) {
+            count += bucketCount;
+        }
+
+        this.counts = counts;
+        this.count = count;
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * @return the number of latencies recorded
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the mean latency in nanoseconds, 0 if none were recorded
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0.0 : (double) totalNanos / count;
+    }
+
+    /**
+     * @param percentile between 0 and 100, e.g. 99.9
+     * @return the latency in nanoseconds at or below which the given percentage of latencies fall, 0 if none were
+     * recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if(!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100, was " + percentile);
+        }
+        if(count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for(int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if(seen >= rank) {
+                return LatencyHistogram.upperBoundOf(bucket);
+            }
+        }
+
+        return getMaxNanos();
+    }
+
+    /**
+     * @return the largest latency in nanoseconds, 0 if none were recorded
+     */
+    public long getMaxNanos() {
+        for(int bucket = counts.length - 1; bucket >= 0; bucket--) {
+            if(counts[bucket] != 0) {
+                return LatencyHistogram.upperBoundOf(bucket);
+            }
+        }
+
+        return 0;
+    }
+
+}
@@ -0,0 +1,78 @@
+package dev.errant.bettertype.basic.absorber.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps success and failure counts (also by exception type) and a {@link LatencyHistogram} for every call site, in
+ * striped LongAdder counters so that many threads absorbing at the same site do not contend on a single counter.
+ *
+ * Sites and exception types are added the first time they are seen; after that recording does not allocate.
+ */
+public final class LongAdderAbsorbRecorder implements AbsorbRecorder {
+    private final ConcurrentHashMap<String, SiteMetrics> sites = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(String site, boolean success, Class<? extends Exception> exceptionType, long elapsedNanos) {
+        SiteMetrics metrics = sites.get(site);
+        if(metrics == null) {
+            metrics = sites.computeIfAbsent(site, (name) -> new SiteMetrics());
+        }
+
+        metrics.record(success, exceptionType, elapsedNanos);
+    }
+
+    /**
+     * @param site the call site name
+     * @return the metrics recorded for the site, or null if nothing has been recorded for it
+     */
+    public SiteSnapshot snapshot(String site) {
+        SiteMetrics metrics = sites.get(site);
+        return metrics == null ? null : metrics.snapshot(site);
+    }
+
+    /**
+     * @return the metrics recorded for every site, by site name
+     */
+    public Map<String, SiteSnapshot> snapshot() {
+        Map<String, SiteSnapshot> snapshots = new HashMap<>();
+        sites.forEach((site, metrics) -> snapshots.put(site, metrics.snapshot(site)));
+
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    private static final class SiteMetrics {
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final ConcurrentHashMap<Class<? extends Exception>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private void record(boolean success, Class<? extends Exception> exceptionType, long elapsedNanos) {
+            if(success) {
+                successes.increment();
+            } else {
+                failures.increment();
+                if(exceptionType != null) {
+                    LongAdder byType = failuresByType.get(exceptionType);
+                    if(byType == null) {
+                        byType = failuresByType.computeIfAbsent(exceptionType, (type) -> new LongAdder());
+                    }
+                    byType.increment();
+                }
+            }
+
+            latency.record(elapsedNanos);
+        }
+
+        private SiteSnapshot snapshot(String site) {
+            Map<Class<? extends Exception>, Long> byType = new HashMap<>();
+            failuresByType.forEach((type, count) -> byType.put(type, count.sum()));
+
+            return new SiteSnapshot(site, successes.sum(), failures.sum(), Collections.unmodifiableMap(byType), latency.snapshot());
+        }
+    }
+
+}
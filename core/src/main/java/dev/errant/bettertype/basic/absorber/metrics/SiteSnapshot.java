@@ -0,0 +1,59 @@
+package dev.errant.bettertype.basic.absorber.metrics;
+
+import java.util.Map;
+
+/**
+ * The metrics recorded for one absorb call site by a {@link LongAdderAbsorbRecorder}.
+ */
+public final class SiteSnapshot {
+    private final String site;
+    private final long successCount;
+    private final long failureCount;
+    private final Map<Class<? extends Exception>, Long> failuresByType;
+    private final LatencySnapshot latency;
+
+    SiteSnapshot(String site, long successCount, long failureCount, Map<Class<? extends Exception>, Long> failuresByType,
+                 LatencySnapshot latency) {
+        this.site = site;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.failuresByType = failuresByType;
+        this.latency = latency;
+    }
+
+    /**
+     * @return the call site name
+     */
+    public String getSite() {
+        return site;
+    }
+
+    /**
+     * @return the number of successful absorbs
+     */
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    /**
+     * @return the number of failed absorbs
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the number of failed absorbs by the type of exception absorbed
+     */
+    public Map<Class<? extends Exception>, Long> getFailuresByType() {
+        return failuresByType;
+    }
+
+    /**
+     * @return the latency of every absorb, successful or not
+     */
+    public LatencySnapshot getLatency() {
+        return latency;
+    }
+
+}
@@ -0,0 +1,393 @@
+package dev.errant.bettertype.basic.cache;
+
+import dev.errant.bettertype.basic.absorber.AbsorbableSupplierAction;
+import dev.errant.bettertype.basic.absorber.SingleFlightAbsorber;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded, expiring cache of Failables; a miss absorbs the given loader and stores the outcome, so later lookups of
+ * the same key return it without running the loader again.
+ * <pre>{@code
+ *     private final FailableCache<String, Chicken, String> chickens = FailableCache.of(
+ *             ExceptionConverters.messagePrintingConverter(),
+ *             FailableCacheConfig.of(10_000, Duration.ofMinutes(10), Duration.ofSeconds(5))
+ *     );
+ *
+ *     public Failable<Chicken, String> findChicken(String name) {
+ *         return chickens.get(name, () -> coopRegistry.lookup(name));
+ *     }
+ * }</pre>
+ *
+ * Failed outcomes are cached too, for their own (usually much shorter) time to live, see {@link FailableCacheConfig}.
+ *
+ * Keys are spread over independently locked segments. Each segment keeps its entries in a ConcurrentHashMap, so a
+ * lookup never blocks, and orders them as a segmented LRU; new entries start on probation and move to a protected
+ * queue when they are read again, and entries are evicted from the probation queue first. A key read once (e.g. by a
+ * scan) can therefore never push out keys that are read repeatedly. Reordering on a hit is skipped rather than waited
+ * for when its segment is busy, which costs a little eviction precision under heavy contention.
+ *
+ * Concurrent misses on the same key share a single run of the loader (see {@link SingleFlightAbsorber}), so an
+ * expiring popular key does not send a crowd of callers to the backend at once.
+ *
+ * @param <K> the key type
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+public final class FailableCache<K, S, F> {
+    private final SingleFlightAbsorber<K, S, F> loads;
+    private final long successTtlNanos;
+    private final long failureTtlNanos;
+    private final LongSupplier nanoClock;
+
+    private final Segment<K, S, F>[] segments;
+    private final int segmentMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private FailableCache(ExceptionConverter<F> converter, FailableCacheConfig config) {
+        this.loads = SingleFlightAbsorber.of(converter);
+        this.successTtlNanos = config.getSuccessTtlNanos();
+        this.failureTtlNanos = config.getFailureTtlNanos();
+        this.nanoClock = config.getNanoClock();
+
+        int count = config.getSegments();
+        int baseCapacity = config.getMaximumSize() / count;
+        int remainder = config.getMaximumSize() % count;
+
+        // every element is created below with the cache's own K, S and F
+        @SuppressWarnings("unchecked")
+        Segment<K, S, F>[] created = (Segment<K, S, F>[]) new Segment<?, ?, ?>[count];
+        for(int i = 0; i < count; i++) {
+            created[i] = new Segment<>(baseCapacity + (i < remainder ? 1 : 0), evictions);
+        }
+        this.segments = created;
+        this.segmentMask = count - 1;
+    }
+
+    /**
+     * @param converter converts exceptions thrown by loaders into failure values
+     * @param config the size and expiry of the cache
+     * @param <K> the key type
+     * @param <S> the success type
+     * @param <F> the failure type
+     * @return an empty cache
+     */
+    public static <K, S, F> FailableCache<K, S, F> of(ExceptionConverter<F> converter, FailableCacheConfig config) {
+        assert(converter!=null);
+        assert(config!=null);
+
+        return new FailableCache<>(converter, config);
+    }
+
+    /**
+     * @param key the key to look up
+     * @param loader absorbed to produce the outcome when nothing unexpired is stored for the key
+     * @return the stored outcome, or the newly loaded one
+     */
+    public Failable<S, F> get(K key, AbsorbableSupplierAction<S> loader) {
+        assert(key!=null);
+
+        Segment<K, S, F> segment = segmentFor(key);
+        Node<K, S, F> node = segment.lookup(key, nanoClock.getAsLong());
+        if(node != null) {
+            hits.increment();
+            return node.value;
+        }
+
+        misses.increment();
+        return loads.absorb(key, loader, (loaded) -> store(segment, key, loaded));
+    }
+
+    /**
+     * @param key the key to look up
+     * @return the stored outcome, or empty if nothing unexpired is stored for the key
+     */
+    public Optional<Failable<S, F>> getIfPresent(K key) {
+        assert(key!=null);
+
+        Node<K, S, F> node = segmentFor(key).lookup(key, nanoClock.getAsLong());
+        if(node != null) {
+            hits.increment();
+            return Optional.of(node.value);
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Stores an outcome obtained elsewhere, replacing anything stored for the key. It expires after the success or
+     * failure time to live as if it had just been loaded.
+     *
+     * @param key the key to store under
+     * @param outcome the outcome to store
+     */
+    public void put(K key, Failable<S, F> outcome) {
+        assert(key!=null);
+        assert(outcome!=null);
+
+        Segment<K, S, F> segment = segmentFor(key);
+        long ttlNanos = outcome.isSuccess() ? successTtlNanos : failureTtlNanos;
+        if(ttlNanos == 0) {
+            segment.invalidate(key);
+        } else {
+            segment.store(new Node<>(key, outcome, nanoClock.getAsLong() + ttlNanos));
+        }
+    }
+
+    /**
+     * @param key the key whose outcome should be discarded
+     */
+    public void invalidate(K key) {
+        assert(key!=null);
+
+        segmentFor(key).invalidate(key);
+    }
+
+    /**
+     * Discards every stored outcome
+     */
+    public void invalidateAll() {
+        for(Segment<K, S, F> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * @return the number of outcomes stored, which may include some that have expired but not yet been removed
+     */
+    public int size() {
+        int size = 0;
+        for(Segment<K, S, F> segment : segments) {
+            size += segment.entries.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return a copy of the hit, miss, load and eviction counters
+     */
+    public FailableCacheStats stats() {
+        return new FailableCacheStats(hits.sum(), misses.sum(), loadSuccesses.sum(), loadFailures.sum(), evictions.sum());
+    }
+
+    private void store(Segment<K, S, F> segment, K key, Failable<S, F> loaded) {
+        long ttlNanos;
+        if(loaded.isSuccess()) {
+            loadSuccesses.increment();
+            ttlNanos = successTtlNanos;
+        } else {
+            loadFailures.increment();
+            ttlNanos = failureTtlNanos;
+        }
+
+        if(ttlNanos != 0) {
+            segment.store(new Node<>(key, loaded, nanoClock.getAsLong() + ttlNanos));
+        }
+    }
+
+    private Segment<K, S, F> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    /**
+     * An entry, also linked into one of its segment's two queues. The key, value and expiry never change; storing a
+     * new outcome for a key replaces the node. The links are only read or written holding the segment lock.
+     */
+    private static final class Node<K, S, F> {
+        private final K key;
+        private final Failable<S, F> value;
+        private final long expiresAt;
+
+        private Node<K, S, F> previous;
+        private Node<K, S, F> next;
+        private boolean protectedQueue;
+        private boolean linked;
+
+        private Node(K key, Failable<S, F> value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * The head of an empty circular queue; the most recently used node follows it, the least recently used
+         * precedes it
+         */
+        private static <K, S, F> Node<K, S, F> sentinel() {
+            Node<K, S, F> sentinel = new Node<>(null, null, 0);
+            sentinel.previous = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        private boolean isExpired(long now) {
+            // compared as a difference, so the comparison holds when the clock wraps
+            return expiresAt - now <= 0;
+        }
+    }
+
+    private static final class Segment<K, S, F> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ConcurrentHashMap<K, Node<K, S, F>> entries = new ConcurrentHashMap<>();
+
+        private final Node<K, S, F> probation = Node.sentinel();
+        private final Node<K, S, F> protectedQueue = Node.sentinel();
+
+        private final int capacity;
+        private final int protectedCapacity;
+        private final LongAdder evictions;
+
+        // guarded by lock
+        private int linkedCount;
+        private int protectedCount;
+
+        private Segment(int capacity, LongAdder evictions) {
+            this.capacity = capacity;
+            this.protectedCapacity = capacity * 4 / 5;
+            this.evictions = evictions;
+        }
+
+        /**
+         * @return the unexpired node for the key, or null
+         */
+        private Node<K, S, F> lookup(K key, long now) {
+            Node<K, S, F> node = entries.get(key);
+            if(node == null) {
+                return null;
+            }
+
+            if(node.isExpired(now)) {
+                lock.lock();
+                try {
+                    if(entries.remove(key, node)) {
+                        unlink(node);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                return null;
+            }
+
+            if(lock.tryLock()) {
+                try {
+                    promote(node);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return node;
+        }
+
+        private void store(Node<K, S, F> node) {
+            lock.lock();
+            try {
+                Node<K, S, F> replaced = entries.put(node.key, node);
+                if(replaced != null) {
+                    unlink(replaced);
+                }
+
+                linkFirst(probation, node);
+                while(linkedCount > capacity) {
+                    Node<K, S, F> victim = probation.previous != probation ? probation.previous : protectedQueue.previous;
+                    unlink(victim);
+                    entries.remove(victim.key, victim);
+                    evictions.increment();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void invalidate(K key) {
+            lock.lock();
+            try {
+                Node<K, S, F> removed = entries.remove(key);
+                if(removed != null) {
+                    unlink(removed);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+                while(probation.next != probation) {
+                    unlink(probation.next);
+                }
+                while(protectedQueue.next != protectedQueue) {
+                    unlink(protectedQueue.next);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * A hit moves the node to the front of the protected queue, overflowing the protected queue demotes its least
+         * recently used node back to the front of probation
+         */
+        private void promote(Node<K, S, F> node) {
+            if(!node.linked) {
+                // evicted or replaced since it was looked up
+                return;
+            }
+
+            unlink(node);
+            linkFirst(protectedQueue, node);
+
+            while(protectedCount > protectedCapacity) {
+                Node<K, S, F> demoted = protectedQueue.previous;
+                unlink(demoted);
+                linkFirst(probation, demoted);
+            }
+        }
+
+        private void linkFirst(Node<K, S, F> queue, Node<K, S, F> node) {
+            node.previous = queue;
+            node.next = queue.next;
+            queue.next.previous = node;
+            queue.next = node;
+
+            node.linked = true;
+            node.protectedQueue = queue == protectedQueue;
+            linkedCount++;
+            if(node.protectedQueue) {
+                protectedCount++;
+            }
+        }
+
+        private void unlink(Node<K, S, F> node) {
+            if(!node.linked) {
+                return;
+            }
+
+            node.previous.next = node.next;
+            node.next.previous = node.previous;
+            node.previous = null;
+            node.next = null;
+
+            node.linked = false;
+            linkedCount--;
+            if(node.protectedQueue) {
+                protectedCount--;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package dev.errant.bettertype.basic.cache;
+
+import dev.errant.bettertype.basic.absorber.Durations;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * How many outcomes a {@link FailableCache} keeps and for how long.
+ *
+ * Successes and failures have their own time to live, so a failure can be remembered briefly (sparing a struggling
+ * dependency repeated calls for the same key) while successes are kept much longer. A failure time to live of zero
+ * turns negative caching off; failures are then returned but never stored.
+ *
+ * The cache is split into segments, each guarded by its own lock, so writes to different segments never contend. The
+ * default is 16 segments, reduced for small caches so every segment holds at least one entry.
+ *
+ * Configurations are immutable, each withX method returns a new configuration.
+ */
+public final class FailableCacheConfig {
+    private static final int DEFAULT_SEGMENTS = 16;
+
+    private final int maximumSize;
+    private final long successTtlNanos;
+    private final long failureTtlNanos;
+    private final int segments;
+    private final LongSupplier nanoClock;
+
+    private FailableCacheConfig(int maximumSize, long successTtlNanos, long failureTtlNanos, int segments,
+                                LongSupplier nanoClock) {
+        this.maximumSize = maximumSize;
+        this.successTtlNanos = successTtlNanos;
+        this.failureTtlNanos = failureTtlNanos;
+        this.segments = segments;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param maximumSize the maximum number of keys held, beyond which the least valuable entries are evicted
+     * @param successTtl how long a successful outcome is kept after it was loaded
+     * @param failureTtl how long a failed outcome is kept after it was loaded, zero to not keep failures at all
+     * @return a configuration with the default number of segments
+     */
+    public static FailableCacheConfig of(int maximumSize, Duration successTtl, Duration failureTtl) {
+        if(maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1, was " + maximumSize);
+        }
+        if(successTtl.isNegative()) {
+            throw new IllegalArgumentException("successTtl must not be negative, was " + successTtl);
+        }
+        if(failureTtl.isNegative()) {
+            throw new IllegalArgumentException("failureTtl must not be negative, was " + failureTtl);
+        }
+
+        return new FailableCacheConfig(maximumSize, Durations.saturatedNanos(successTtl),
+                Durations.saturatedNanos(failureTtl), Math.min(DEFAULT_SEGMENTS, Integer.highestOneBit(maximumSize)),
+                System::nanoTime);
+    }
+
+    /**
+     * @param segments the number of independently locked segments, a power of two no greater than maximumSize
+     * @return a copy of this configuration with the given number of segments
+     */
+    public FailableCacheConfig withSegments(int segments) {
+        if(segments < 1 || Integer.bitCount(segments) != 1 || segments > maximumSize) {
+            throw new IllegalArgumentException("segments must be a power of two between 1 and maximumSize, was " + segments);
+        }
+
+        return new FailableCacheConfig(maximumSize, successTtlNanos, failureTtlNanos, segments, nanoClock);
+    }
+
+    /**
+     * @param nanoClock the time source in nanoseconds, as System.nanoTime (mainly for testing)
+     * @return a copy of this configuration with the given clock
+     */
+    public FailableCacheConfig withClock(LongSupplier nanoClock) {
+        assert(nanoClock!=null);
+
+        return new FailableCacheConfig(maximumSize, successTtlNanos, failureTtlNanos, segments, nanoClock);
+    }
+
+    int getMaximumSize() {
+        return maximumSize;
+    }
+
+    long getSuccessTtlNanos() {
+        return successTtlNanos;
+    }
+
+    long getFailureTtlNanos() {
+        return failureTtlNanos;
+    }
+
+    int getSegments() {
+        return segments;
+    }
+
+    LongSupplier getNanoClock() {
+        return nanoClock;
+    }
+
+}
@@ -0,0 +1,77 @@
+package dev.errant.bettertype.basic.cache;
+
+/**
+ * A point in time copy of the counters of a {@link FailableCache}. The counters are read one after another while the
+ * cache may be in use, so under load they can be very slightly out of step with each other.
+ */
+public final class FailableCacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long evictionCount;
+
+    FailableCacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * @return the number of lookups answered with a stored outcome, successful or failed
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of lookups that found nothing stored, or only an expired outcome, including those that
+     * waited for another caller's load of the same key
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the share of lookups that were hits, 0 if there were no lookups
+     */
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * @return the number of loads that succeeded
+     */
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    /**
+     * @return the number of loads that failed, whether or not the failure was kept
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * @return the number of entries removed to stay within the maximum size, expired entries are not counted
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "FailableCacheStats{" +
+                "hits=" + hitCount +
+                ", misses=" + missCount +
+                ", loadSuccesses=" + loadSuccessCount +
+                ", loadFailures=" + loadFailureCount +
+                ", evictions=" + evictionCount +
+                '}';
+    }
+
+}
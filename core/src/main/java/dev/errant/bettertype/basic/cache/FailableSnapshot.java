@@ -0,0 +1,213 @@
+package dev.errant.bettertype.basic.cache;
+
+import dev.errant.bettertype.basic.absorber.AbsorbableSupplierAction;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the latest outcome of a periodically polled action, e.g. a configuration or health endpoint. The action is
+ * absorbed in the background on a ScheduledExecutorService, and {@link #get()} returns the newest published outcome
+ * with a single volatile read; reading never blocks, allocates or runs the action.
+ * <pre>{@code
+ *     private final FailableSnapshot<CoopConfig, String> coopConfig = FailableSnapshot.start(
+ *             configClient::fetchCoopConfig,
+ *             ExceptionConverters.messagePrintingConverter(),
+ *             FailableSnapshot.FailurePolicy.KEEP_LAST_SUCCESS,
+ *             Duration.ofSeconds(30),
+ *             scheduler
+ *     );
+ *
+ *     public Failable<CoopConfig, String> currentCoopConfig() {
+ *         return coopConfig.get();
+ *     }
+ * }</pre>
+ *
+ * The first refresh runs on the thread calling start, so there is always an outcome to read. Later refreshes run with a
+ * fixed delay between the end of one and the start of the next, so a slow action never overlaps itself.
+ *
+ * A scheduled refresh that throws, because the converter throws or the action throws an Error, counts towards the
+ * failure streak without publishing anything, is kept as {@link #getLastError()}, and the refreshes after it still run.
+ * A VirtualMachineError is the exception: it is rethrown, which ends the scheduled refreshes.
+ *
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+public final class FailableSnapshot<S, F> implements AutoCloseable {
+
+    /**
+     * What a failed refresh publishes
+     */
+    public enum FailurePolicy {
+        /**
+         * Every refresh publishes its outcome, so a failed refresh replaces the previous success
+         */
+        PUBLISH_FAILURE,
+
+        /**
+         * A failed refresh leaves the last success published; failures are only published until the first success
+         */
+        KEEP_LAST_SUCCESS
+    }
+
+    private final AbsorbableSupplierAction<S> action;
+    private final ExceptionConverter<F> converter;
+    private final FailurePolicy failurePolicy;
+
+    /**
+     * Refreshes are serialised on this, readers never take it
+     */
+    private final Object refreshLock = new Object();
+
+    private volatile Failable<S, F> current;
+    private volatile F lastFailure;
+    private volatile Throwable lastError;
+    private volatile int failureStreak;
+    private volatile long lastRefreshNanos;
+    private volatile long refreshCount;
+
+    private volatile ScheduledFuture<?> schedule;
+
+    private FailableSnapshot(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter,
+                             FailurePolicy failurePolicy) {
+        this.action = action;
+        this.converter = converter;
+        this.failurePolicy = failurePolicy;
+    }
+
+    /**
+     * Runs the first refresh on the calling thread, then schedules the rest.
+     *
+     * @param action the action producing the value
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param failurePolicy whether a failed refresh replaces the last success
+     * @param period the delay between the end of one refresh and the start of the next
+     * @param scheduler runs the refreshes
+     * @param <S> the success type (inferred from action)
+     * @param <F> the failable type (inferred from converter)
+     * @return a snapshot holding the outcome of the first refresh
+     */
+    public static <S, F> FailableSnapshot<S, F> start(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter,
+                                                      FailurePolicy failurePolicy, Duration period,
+                                                      ScheduledExecutorService scheduler) {
+        assert(action!=null);
+        assert(converter!=null);
+        assert(failurePolicy!=null);
+        if(period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("period must be positive, was " + period);
+        }
+
+        FailableSnapshot<S, F> snapshot = new FailableSnapshot<>(action, converter, failurePolicy);
+        snapshot.refresh();
+
+        long periodNanos = period.toNanos();
+        snapshot.schedule = scheduler.scheduleWithFixedDelay(snapshot::scheduledRefresh, periodNanos, periodNanos,
+                TimeUnit.NANOSECONDS);
+        return snapshot;
+    }
+
+    /**
+     * @return the newest published outcome
+     */
+    public Failable<S, F> get() {
+        return current;
+    }
+
+    /**
+     * Refreshes on the calling thread now, e.g. when a change to the polled value has been announced. Waits for a
+     * scheduled refresh already running to finish first.
+     *
+     * @return the outcome of this refresh, which is not published if it failed and the last success is kept
+     */
+    public Failable<S, F> refresh() {
+        synchronized(refreshLock) {
+            long started = System.nanoTime();
+            Failable<S, F> outcome;
+            try {
+                outcome = Failable.absorb(action, converter);
+            } finally {
+                // a refresh that throws still ran, so it is counted and timed like any other
+                lastRefreshNanos = System.nanoTime() - started;
+                refreshCount++;
+            }
+
+            if(outcome.isSuccess()) {
+                failureStreak = 0;
+                current = outcome;
+            } else {
+                failureStreak++;
+                lastFailure = outcome.getFailure();
+                if(failurePolicy == FailurePolicy.PUBLISH_FAILURE || current == null || current.isFailure()) {
+                    current = outcome;
+                }
+            }
+
+            return outcome;
+        }
+    }
+
+    /**
+     * @return the number of refreshes that have failed since the last successful one
+     */
+    public int getFailureStreak() {
+        return failureStreak;
+    }
+
+    /**
+     * @return the converted failure of the most recent failed refresh, empty if no refresh has failed
+     */
+    public Optional<F> getLastFailure() {
+        return Optional.ofNullable(lastFailure);
+    }
+
+    /**
+     * @return the most recent throwable a scheduled refresh threw instead of producing an outcome, empty if none has
+     */
+    public Optional<Throwable> getLastError() {
+        return Optional.ofNullable(lastError);
+    }
+
+    /**
+     * @return how long the most recent refresh took to absorb the action
+     */
+    public Duration getLastRefreshLatency() {
+        return Duration.ofNanos(lastRefreshNanos);
+    }
+
+    /**
+     * @return the number of refreshes run, including the first
+     */
+    public long getRefreshCount() {
+        return refreshCount;
+    }
+
+    /**
+     * Stops the scheduled refreshes. The last published outcome can still be read.
+     */
+    @Override
+    public void close() {
+        schedule.cancel(false);
+    }
+
+    private void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (VirtualMachineError e) {
+            // the JVM is in no state to keep polling
+            throw e;
+        } catch (Throwable t) {
+            // a throwing converter or an Error from the action; the scheduler would silently stop refreshing if this
+            // escaped, so it counts as a failed refresh and the next one runs as planned
+            synchronized(refreshLock) {
+                failureStreak++;
+                lastError = t;
+            }
+        }
+    }
+
+}
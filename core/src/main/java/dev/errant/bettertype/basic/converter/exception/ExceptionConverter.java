@@ -1,11 +1,13 @@
 package dev.errant.bettertype.basic.converter.exception;
 
+import dev.errant.bettertype.basic.absorber.NullValueAbsorbed;
+
 /**
  * Convert an Exception to a more useful type.
  *
  * Be careful when implementing this - different types of exception can be thrown and your code should account for this.
  *
- * In particular be aware that the {@link dev.errant.bettertype.basic.absorber.NullValueAbsorbed} can be passed as the
+ * In particular be aware that the {@link NullValueAbsorbed} can be passed as the
  * exception value as a special case - representing that the
  * {@link dev.errant.bettertype.basic.absorber.AbsorbableSupplierAction} returned null.
  *
@@ -20,4 +22,20 @@ public interface ExceptionConverter<O> {
      * @return the converted exception
      */
     O convert(Exception exception);
+
+    /**
+     * Convert an exception an action threw into a failure value, the way every absorber does. If the exception converts
+     * to null, the {@link NullValueAbsorbed} marker is converted instead, so an
+     * absorbed failure never holds null.
+     *
+     * @param exception the exception the action threw
+     * @return the converted exception, or the converted NullValueAbsorbed marker
+     */
+    default O convertToFailure(Exception exception) {
+        O failure = convert(exception);
+        if(failure == null) {
+            failure = convert(NullValueAbsorbed.instance());
+        }
+        return failure;
+    }
 }
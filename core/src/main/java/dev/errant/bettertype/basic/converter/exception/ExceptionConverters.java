@@ -1,13 +1,17 @@
 package dev.errant.bettertype.basic.converter.exception;
 
 
+import dev.errant.bettertype.basic.converter.exception.provided.BoundedStackTracePrintingExceptionConverter;
+import dev.errant.bettertype.basic.converter.exception.provided.CachingStackTracePrintingExceptionConverter;
 import dev.errant.bettertype.basic.converter.exception.provided.MessagePrintingExceptionConverter;
 import dev.errant.bettertype.basic.converter.exception.provided.StackTracePrintingExceptionConverter;
+import dev.errant.bettertype.basic.converter.exception.provided.TypeDispatchingExceptionConverter;
 
 /**
  * A convenience class that constructs various types of converters
  */
 public class ExceptionConverters {
+    private static final int DEFAULT_CACHED_TRACES = 1024;
 
     /**
      * @return a ExceptionConverter that produces a classic Java stack trace to a string with messages and chained causes also printed
@@ -16,6 +20,43 @@ public class ExceptionConverters {
         return new StackTracePrintingExceptionConverter();
     }
 
+    /**
+     * @return a ExceptionConverter that produces the same output as {@link #stackTracePrintingConverter()}, reusing the
+     * rendered String for up to 1024 recently seen distinct traces
+     */
+    public static CachingStackTracePrintingExceptionConverter cachingStackTracePrintingConverter() {
+        return cachingStackTracePrintingConverter(DEFAULT_CACHED_TRACES);
+    }
+
+    /**
+     * @param maximumSize the maximum number of distinct rendered traces to keep
+     * @return a ExceptionConverter that produces the same output as {@link #stackTracePrintingConverter()}, reusing the
+     * rendered String for up to maximumSize recently seen distinct traces
+     */
+    public static CachingStackTracePrintingExceptionConverter cachingStackTracePrintingConverter(int maximumSize) {
+        return new CachingStackTracePrintingExceptionConverter(maximumSize);
+    }
+
+    /**
+     * @param maxFrames the maximum number of frames printed for each exception in the chain
+     * @param maxCauseDepth the maximum number of causes printed below the top level exception
+     * @return a ExceptionConverter that produces a stack trace limited in frames and causes, rendered through a reusable
+     * per-thread buffer
+     */
+    public static BoundedStackTracePrintingExceptionConverter boundedStackTracePrintingConverter(int maxFrames, int maxCauseDepth) {
+        return new BoundedStackTracePrintingExceptionConverter(maxFrames, maxCauseDepth);
+    }
+
+    /**
+     * @param fallback converts exceptions with no converter registered for their type
+     * @param <F> the failure type (inferred from fallback)
+     * @return a builder for a ExceptionConverter that picks a converter by the exception's type, caching the choice per
+     * exception class
+     */
+    public static <F> TypeDispatchingExceptionConverter.Builder<F> byType(ExceptionConverter<? extends F> fallback) {
+        return TypeDispatchingExceptionConverter.builder(fallback);
+    }
+
     /**
      * @return a ExceptionConverter that produces just the message from the Exception (no stack traces or nested messages are printed)
      */
@@ -0,0 +1,167 @@
+package dev.errant.bettertype.basic.converter.exception.provided;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Produces a stack trace much like {@link StackTracePrintingExceptionConverter}, but limited to at most maxFrames frames
+ * per exception and at most maxCauseDepth chained causes, so traces from deep framework stacks stay small. Suppressed
+ * exceptions are listed by description only.
+ *
+ * The trace can be written straight into any Appendable (a StringBuilder, CharBuffer, Writer...) with
+ * {@link #appendTo(Throwable, Appendable)}. When used as an ExceptionConverter the trace is rendered into a reusable
+ * per-thread buffer, so the returned String is the only allocation of any size.
+ */
+public class BoundedStackTracePrintingExceptionConverter implements ExceptionConverter<String> {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /**
+     * Buffers that grew beyond this are not kept for reuse, so one huge trace cannot pin memory to a thread
+     */
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private final int maxFrames;
+    private final int maxCauseDepth;
+
+    /**
+     * @param maxFrames the maximum number of frames printed for each exception in the chain
+     * @param maxCauseDepth the maximum number of causes printed below the top level exception
+     */
+    public BoundedStackTracePrintingExceptionConverter(int maxFrames, int maxCauseDepth) {
+        if(maxFrames < 0) {
+            throw new IllegalArgumentException("maxFrames must not be negative, was " + maxFrames);
+        }
+        if(maxCauseDepth < 0) {
+            throw new IllegalArgumentException("maxCauseDepth must not be negative, was " + maxCauseDepth);
+        }
+
+        this.maxFrames = maxFrames;
+        this.maxCauseDepth = maxCauseDepth;
+    }
+
+    @Override
+    public String convert(Exception exception) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+
+        appendTo(exception, buffer);
+        String trace = buffer.toString();
+
+        if(buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+
+        return trace;
+    }
+
+    /**
+     * Write the bounded trace into a StringBuilder.
+     *
+     * @param throwable the exception to print
+     * @param out the builder to append to
+     */
+    public void appendTo(Throwable throwable, StringBuilder out) {
+        try {
+            appendTo(throwable, (Appendable) out);
+        } catch (IOException e) {
+            // StringBuilder never throws
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write the bounded trace into any Appendable, e.g. a CharBuffer or Writer.
+     *
+     * @param throwable the exception to print
+     * @param out the destination to append to
+     * @throws IOException if the destination fails
+     */
+    public void appendTo(Throwable throwable, Appendable out) throws IOException {
+        StackTraceElement[] enclosingTrace = null;
+        Throwable current = throwable;
+
+        for(int depth = 0; current != null; depth++) {
+            if(depth > maxCauseDepth) {
+                // no attempt to count what is left, the chain may be circular
+                out.append("Caused by: ... (further causes omitted)").append(LINE_SEPARATOR);
+                return;
+            }
+
+            if(depth > 0) {
+                out.append("Caused by: ");
+            }
+
+            StackTraceElement[] trace = current.getStackTrace();
+            appendThrowable(current, trace, enclosingTrace, out);
+
+            enclosingTrace = trace;
+            current = current.getCause();
+        }
+    }
+
+    private void appendThrowable(Throwable throwable, StackTraceElement[] trace, StackTraceElement[] enclosingTrace,
+                                 Appendable out) throws IOException {
+        out.append(throwable.toString()).append(LINE_SEPARATOR);
+
+        int printable = trace.length - framesInCommon(trace, enclosingTrace);
+        int printed = Math.min(printable, maxFrames);
+
+        for(int i = 0; i < printed; i++) {
+            out.append("\tat ");
+            appendFrame(trace[i], out);
+            out.append(LINE_SEPARATOR);
+        }
+
+        int omitted = trace.length - printed;
+        if(omitted > 0) {
+            out.append("\t... ").append(Integer.toString(omitted)).append(" more").append(LINE_SEPARATOR);
+        }
+
+        for(Throwable suppressed : throwable.getSuppressed()) {
+            out.append("\tSuppressed: ").append(suppressed.toString()).append(LINE_SEPARATOR);
+        }
+    }
+
+    /**
+     * Appends the frame piece by piece in the classic format, rather than building a String per frame
+     */
+    private static void appendFrame(StackTraceElement frame, Appendable out) throws IOException {
+        out.append(frame.getClassName()).append('.').append(frame.getMethodName()).append('(');
+
+        if(frame.isNativeMethod()) {
+            out.append("Native Method");
+        } else if(frame.getFileName() == null) {
+            out.append("Unknown Source");
+        } else {
+            out.append(frame.getFileName());
+            if(frame.getLineNumber() >= 0) {
+                out.append(':').append(Integer.toString(frame.getLineNumber()));
+            }
+        }
+
+        out.append(')');
+    }
+
+    /**
+     * The number of trailing frames shared with the enclosing exception, as elided by Throwable.printStackTrace
+     */
+    private static int framesInCommon(StackTraceElement[] trace, StackTraceElement[] enclosingTrace) {
+        if(enclosingTrace == null) {
+            return 0;
+        }
+
+        int m = trace.length - 1;
+        int n = enclosingTrace.length - 1;
+        while(m >= 0 && n >= 0 && trace[m].equals(enclosingTrace[n])) {
+            m--;
+            n--;
+        }
+
+        return trace.length - 1 - m;
+    }
+
+}
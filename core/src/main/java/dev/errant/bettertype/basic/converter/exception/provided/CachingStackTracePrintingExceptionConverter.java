@@ -0,0 +1,205 @@
+package dev.errant.bettertype.basic.converter.exception.provided;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Produces the same output as {@link StackTracePrintingExceptionConverter}, but remembers the rendered String for
+ * recently seen traces. When the same exception is raised from the same place over and over (e.g. a dependency outage)
+ * only the first occurrence pays for rendering, later ones return the already rendered String.
+ *
+ * Traces are matched on a fingerprint of everything printStackTrace prints; the description (class and message) and
+ * frames of the exception and of every cause and suppressed exception. The cache holds at most maximumSize traces
+ * (briefly more while new traces are being added concurrently), evicting one not used since the eviction sweep last
+ * passed it, which approximates evicting the least recently used.
+ *
+ * Hits only read a ConcurrentHashMap and mark the entry as used, so converting a cached trace never takes a lock; only
+ * misses, which already pay for rendering, serialise on the eviction sweep.
+ */
+public class CachingStackTracePrintingExceptionConverter implements ExceptionConverter<String> {
+    private final StackTracePrintingExceptionConverter renderer = new StackTracePrintingExceptionConverter();
+
+    private final int maximumSize;
+    private final ConcurrentMap<TraceFingerprint, Rendered> rendered = new ConcurrentHashMap<>();
+
+    /**
+     * Every cached entry in the order the eviction sweep visits them, guarded by itself
+     */
+    private final Queue<Rendered> sweep = new ArrayDeque<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maximumSize the maximum number of distinct rendered traces to keep
+     */
+    public CachingStackTracePrintingExceptionConverter(int maximumSize) {
+        if(maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1, was " + maximumSize);
+        }
+
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public String convert(Exception exception) {
+        TraceFingerprint fingerprint = TraceFingerprint.of(exception);
+        Rendered cached = rendered.get(fingerprint);
+
+        if(cached != null) {
+            hits.increment();
+            cached.markUsed();
+            return cached.trace;
+        }
+
+        misses.increment();
+        Rendered fresh = new Rendered(fingerprint, renderer.convert(exception));
+        Rendered raced = rendered.putIfAbsent(fingerprint, fresh);
+        if(raced != null) {
+            return raced.trace;
+        }
+
+        admit(fresh);
+        return fresh.trace;
+    }
+
+    /**
+     * @return the number of conversions answered from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of conversions that had to render the trace
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of distinct traces currently cached
+     */
+    public int size() {
+        return rendered.size();
+    }
+
+    /**
+     * Queues a newly cached entry for the sweep, then evicts until at most maximumSize entries are queued. An entry used
+     * since the sweep last passed it gets a second chance and goes to the back of the queue.
+     */
+    private void admit(Rendered fresh) {
+        synchronized(sweep) {
+            sweep.add(fresh);
+
+            while(sweep.size() > maximumSize) {
+                Rendered candidate = sweep.remove();
+                if(candidate.used) {
+                    candidate.used = false;
+                    sweep.add(candidate);
+                } else {
+                    rendered.remove(candidate.fingerprint, candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * A rendered trace, with whether it has been used since the eviction sweep last passed it
+     */
+    private static final class Rendered {
+        private final TraceFingerprint fingerprint;
+        private final String trace;
+        private volatile boolean used;
+
+        private Rendered(TraceFingerprint fingerprint, String trace) {
+            this.fingerprint = fingerprint;
+            this.trace = trace;
+        }
+
+        private void markUsed() {
+            // read first, so a hot entry does not keep writing to a shared cache line
+            if(!used) {
+                used = true;
+            }
+        }
+    }
+
+    /**
+     * The parts of an exception (and everything it references) that appear in its printed stack trace, in the order
+     * they are printed.
+     */
+    static final class TraceFingerprint {
+        private static final String CAUSE = "Caused by";
+        private static final String SUPPRESSED = "Suppressed";
+        private static final String CIRCULAR = "CIRCULAR REFERENCE";
+
+        private final Object[] parts;
+        private final int hash;
+
+        private TraceFingerprint(Object[] parts) {
+            this.parts = parts;
+            this.hash = Arrays.deepHashCode(parts);
+        }
+
+        static TraceFingerprint of(Throwable throwable) {
+            List<Object> parts = new ArrayList<>();
+            collect(throwable, parts, Collections.newSetFromMap(new IdentityHashMap<>()));
+
+            return new TraceFingerprint(parts.toArray());
+        }
+
+        private static void collect(Throwable throwable, List<Object> parts, Set<Throwable> seen) {
+            if(!seen.add(throwable)) {
+                parts.add(CIRCULAR);
+                parts.add(throwable.toString());
+                return;
+            }
+
+            // toString rather than class and message, as printStackTrace uses it and subclasses may override it
+            parts.add(throwable.toString());
+            parts.add(throwable.getStackTrace());
+
+            for(Throwable suppressed : throwable.getSuppressed()) {
+                parts.add(SUPPRESSED);
+                collect(suppressed, parts, seen);
+            }
+
+            Throwable cause = throwable.getCause();
+            if(cause != null) {
+                parts.add(CAUSE);
+                collect(cause, parts, seen);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(this == other) {
+                return true;
+            }
+            if(!(other instanceof TraceFingerprint)) {
+                return false;
+            }
+
+            TraceFingerprint that = (TraceFingerprint) other;
+            return hash == that.hash && Arrays.deepEquals(parts, that.parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
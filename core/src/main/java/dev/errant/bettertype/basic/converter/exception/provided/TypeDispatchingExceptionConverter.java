@@ -0,0 +1,171 @@
+package dev.errant.bettertype.basic.converter.exception.provided;
+
+import dev.errant.bettertype.basic.absorber.NullValueAbsorbed;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Converts each exception with the converter registered for its type, in place of a chain of instanceof checks.
+ *
+ * The converter for an exception class is the one registered with {@link Builder#on(Class, Function)} for the nearest
+ * class in its superclass chain. Failing that, the first interface registered with
+ * {@link Builder#onInterface(Class, ExceptionConverter)} that it implements, in registration order, and failing that
+ * the fallback. The resolution is worked out once per concrete exception class and cached in a ClassValue, so after the
+ * first exception of each class, dispatch is a single lookup.
+ *
+ * The {@link NullValueAbsorbed} marker can be given its own handler with {@link Builder#onNullValue(Supplier)}, checked
+ * before any lookup.
+ *
+ * <pre>{@code
+ *     ExceptionConverter<CoopFailure> converter = ExceptionConverters.byType((exception) -> CoopFailure.UNKNOWN)
+ *             .on(FileNotFoundException.class, (exception) -> CoopFailure.NO_COOP)
+ *             .on(IOException.class, (exception) -> CoopFailure.COOP_UNREADABLE)
+ *             .onNullValue(() -> CoopFailure.EMPTY_COOP)
+ *             .build();
+ * }</pre>
+ *
+ * @param <F> the failure type
+ */
+public class TypeDispatchingExceptionConverter<F> implements ExceptionConverter<F> {
+    private final Supplier<? extends F> nullValueHandler;
+
+    private final ClassValue<Function<Exception, ? extends F>> resolved;
+
+    private TypeDispatchingExceptionConverter(Map<Class<?>, Function<Exception, ? extends F>> byType,
+                                              ExceptionConverter<? extends F> fallback,
+                                              Supplier<? extends F> nullValueHandler) {
+        this.nullValueHandler = nullValueHandler;
+
+        List<Class<?>> interfaces = new ArrayList<>();
+        for(Class<?> type : byType.keySet()) {
+            if(type.isInterface()) {
+                interfaces.add(type);
+            }
+        }
+
+        this.resolved = new ClassValue<Function<Exception, ? extends F>>() {
+            @Override
+            protected Function<Exception, ? extends F> computeValue(Class<?> exceptionType) {
+                for(Class<?> type = exceptionType; type != null; type = type.getSuperclass()) {
+                    Function<Exception, ? extends F> converter = byType.get(type);
+                    if(converter != null) {
+                        return converter;
+                    }
+                }
+
+                for(Class<?> type : interfaces) {
+                    if(type.isAssignableFrom(exceptionType)) {
+                        return byType.get(type);
+                    }
+                }
+
+                return fallback::convert;
+            }
+        };
+    }
+
+    /**
+     * @param fallback converts exceptions with no converter registered for their type
+     * @param <F> the failure type
+     * @return a builder with no converters registered
+     */
+    public static <F> Builder<F> builder(ExceptionConverter<? extends F> fallback) {
+        assert(fallback!=null);
+
+        return new Builder<>(fallback);
+    }
+
+    @Override
+    public F convert(Exception exception) {
+        if(nullValueHandler != null && exception instanceof NullValueAbsorbed) {
+            return nullValueHandler.get();
+        }
+
+        return resolved.get(exception.getClass()).apply(exception);
+    }
+
+    /**
+     * Registers a converter per exception type. Not thread safe; build takes a copy, so the builder can be reused.
+     *
+     * @param <F> the failure type
+     */
+    public static final class Builder<F> {
+        private final ExceptionConverter<? extends F> fallback;
+        private final Map<Class<?>, Function<Exception, ? extends F>> byType = new LinkedHashMap<>();
+        private Supplier<? extends F> nullValueHandler;
+
+        private Builder(ExceptionConverter<? extends F> fallback) {
+            this.fallback = fallback;
+        }
+
+        /**
+         * @param type the exception class, covering its subclasses too
+         * @param converter converts exceptions of the type
+         * @param <E> the exception type
+         * @return this builder
+         * @throws IllegalArgumentException if a converter is already registered for the type
+         */
+        @SuppressWarnings("unchecked")
+        public <E extends Exception> Builder<F> on(Class<E> type, Function<? super E, ? extends F> converter) {
+            assert(type!=null);
+            assert(converter!=null);
+
+            // only ever applied to exceptions of the registered type
+            return register(type, (Function<Exception, ? extends F>) converter);
+        }
+
+        /**
+         * Registers a converter for the exceptions implementing an interface, e.g. a marker shared across unrelated
+         * exception hierarchies. Interfaces are only checked when no superclass of the exception is registered.
+         *
+         * @param type the interface
+         * @param converter converts exceptions implementing the interface
+         * @return this builder
+         * @throws IllegalArgumentException if the type is not an interface, or a converter is already registered for it
+         */
+        public Builder<F> onInterface(Class<?> type, ExceptionConverter<? extends F> converter) {
+            assert(type!=null);
+            assert(converter!=null);
+
+            if(!type.isInterface()) {
+                throw new IllegalArgumentException(type.getName() + " is not an interface, register it with on");
+            }
+
+            return register(type, converter::convert);
+        }
+
+        private Builder<F> register(Class<?> type, Function<Exception, ? extends F> converter) {
+            if(byType.containsKey(type)) {
+                throw new IllegalArgumentException("a converter is already registered for " + type.getName());
+            }
+
+            byType.put(type, converter);
+            return this;
+        }
+
+        /**
+         * @param handler provides the failure value when a null value was absorbed
+         * @return this builder
+         */
+        public Builder<F> onNullValue(Supplier<? extends F> handler) {
+            assert(handler!=null);
+
+            this.nullValueHandler = handler;
+            return this;
+        }
+
+        /**
+         * @return a converter dispatching on the types registered so far
+         */
+        public TypeDispatchingExceptionConverter<F> build() {
+            return new TypeDispatchingExceptionConverter<>(new LinkedHashMap<>(byType), fallback, nullValueHandler);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package dev.errant.bettertype.basic.failable;
+
+import dev.errant.bettertype.basic.absorber.DeadlineExceededAbsorbed;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Runs an absorb on an executor and waits for it up to a deadline, shared by the deadline bounded absorb methods.
+ */
+final class Deadline {
+
+    private Deadline() {
+    }
+
+    /**
+     * @param absorb the absorb to run, which only throws if its converter does
+     * @param timeout how long to wait for it
+     * @param executor runs it
+     * @param failed turns a rejection, interruption or {@link DeadlineExceededAbsorbed} into the outcome
+     * @param <T> the outcome type
+     * @return the outcome of the absorb, or of failed if it did not complete in time
+     */
+    static <T> T await(Callable<T> absorb, Duration timeout, Executor executor, Function<Exception, T> failed) {
+        FutureTask<T> task = new FutureTask<>(absorb);
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException rejected) {
+            return failed.apply(rejected);
+        }
+
+        try {
+            return task.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException timedOut) {
+            if(task.cancel(true)) {
+                return failed.apply(DeadlineExceededAbsorbed.instance());
+            }
+            // completed in the meantime, so the outcome is available without waiting
+            return completed(task);
+        } catch (InterruptedException interrupted) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            return failed.apply(interrupted);
+        } catch (ExecutionException converterFailure) {
+            throw rethrow(converterFailure);
+        }
+    }
+
+    private static <T> T completed(FutureTask<T> task) {
+        boolean interrupted = false;
+        try {
+            while(true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException converterFailure) {
+                    throw rethrow(converterFailure);
+                }
+            }
+        } finally {
+            if(interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * The absorb catches every Exception from the action, so only a RuntimeException from the converter or an Error
+     * can get here
+     */
+    private static RuntimeException rethrow(ExecutionException failure) {
+        Throwable cause = failure.getCause();
+        if(cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if(cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+}
@@ -0,0 +1,316 @@
+package dev.errant.bettertype.basic.failable;
+
+import dev.errant.bettertype.basic.absorber.AbsorbableDoubleSupplierAction;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A double specialization of {@link Failable}; either a successful double value, or a failure value of type F.
+ *
+ * The success value is held as a primitive, so creating, mapping and reading a successful DoubleFailable never boxes.
+ */
+abstract public class DoubleFailable<F> {
+
+    /**
+     * DoubleFailable is a closed hierarchy of exactly two implementations, Success and Failure. The private constructor
+     * prevents any other subclass.
+     */
+    private DoubleFailable() {
+    }
+
+    /**
+     * @return true if the outcome is successful, false otherwise
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * @return true if the outcome is failure, false otherwise
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * @return if successful, the value of the success
+     * @throws NoSuchElementException if the instance is a failure (check before calling)
+     */
+    public abstract double getAsDouble();
+
+    /**
+     * @return if failure, the value of the failure
+     * @throws NoSuchElementException if the instance is successful (check before calling)
+     */
+    public abstract F getFailure();
+
+    /**
+     * Convert this DoubleFailable to an OptionalDouble.
+     *
+     * @return an OptionalDouble representing the success case (optionally present if success)
+     */
+    public abstract OptionalDouble toOptionalDouble();
+
+    /**
+     * Convert this DoubleFailable to an OptionalDouble. If this DoubleFailable is a failure, the failureHandler is first called to
+     * handle the failure.
+     *
+     * @param failureHandler handles the failure value
+     * @return an OptionalDouble representing the success case (optionally present if success)
+     */
+    public abstract OptionalDouble toOptionalDouble(Consumer<F> failureHandler);
+
+    /**
+     * Convert this DoubleFailable to a SimpleFailable.
+     *
+     * @return a SimpleFailable representing the failure case (discarding the success value)
+     */
+    public abstract SimpleFailable<F> toSimpleFailable();
+
+    /**
+     * Convert this DoubleFailable to a Failable, boxing the success value if present.
+     *
+     * @return an equivalent Failable
+     */
+    public abstract Failable<Double, F> boxed();
+
+    /**
+     * Convert this DoubleFailable to a new DoubleFailable, mapping the success value if present.
+     *
+     * @param converter converts the current success value to a new value
+     * @return an updated DoubleFailable with a mapped success value if present
+     */
+    public abstract DoubleFailable<F> mapSuccess(DoubleUnaryOperator converter);
+
+    /**
+     * Convert this DoubleFailable to a new DoubleFailable, mapping the failure value if present.
+     *
+     * @param converter converts the current failure value to a new value
+     * @param <nF> the type of the new failure value
+     * @return an updated DoubleFailable with a mapped failure value, if present
+     */
+    public abstract <nF> DoubleFailable<nF> mapFailure(Function<F, nF> converter);
+
+    /**
+     * @param successValue the success value
+     * @param <F> inferred failure type
+     * @return A DoubleFailable representing a success with a value
+     */
+    public static <F> DoubleFailable<F> success(double successValue) {
+        return new Success<F>(successValue);
+    }
+
+    /**
+     * @param failValue the non-null fail value
+     * @param <F> inferred failure type
+     * @return A DoubleFailable representing a failure with a value
+     */
+    public static <F> DoubleFailable<F> failure(F failValue) {
+        return new Failure<F>(failValue);
+    }
+
+    /**
+     * Runs the action function, returning the result as the "success" value of a DoubleFailable. If an exception is thrown
+     * the exception becomes the failure value.
+     *
+     * @param action the action to perform
+     * @return DoubleFailable either with the success value or the caught exception
+     */
+    public static DoubleFailable<Exception> absorb(AbsorbableDoubleSupplierAction action) {
+        return absorb(action, (value) -> value );
+    }
+
+    /**
+     * Runs the action function, returning the result as the "success" value of a DoubleFailable. If an exception is thrown
+     * the exception is passed to the converter, and the output of the converter becomes the failure value.
+     *
+     * A primitive can never be null, so the converter only receives NullValueAbsorbed when, as with Failable.absorb, it
+     * converted the exception thrown to null.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param <F> the failable type (inferred from converter)
+     * @return A DoubleFailable containing either the Success or Failure value
+     */
+    public static <F> DoubleFailable<F> absorb(AbsorbableDoubleSupplierAction action, ExceptionConverter<F> converter) {
+        final double outcome;
+
+        try {
+            outcome = action.act();
+        } catch (Exception exception) {
+            return DoubleFailable.failure(converter.convertToFailure(exception));
+        }
+
+        return DoubleFailable.success(outcome);
+    }
+
+    private static final class Success<F> extends DoubleFailable<F> {
+        private final double successValue;
+
+        private Success(double successValue) {
+            this.successValue = successValue;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public double getAsDouble() {
+            return successValue;
+        }
+
+        @Override
+        public F getFailure() {
+            throw new NoSuchElementException("This Failable value did not fail");
+        }
+
+        @Override
+        public OptionalDouble toOptionalDouble() {
+            return OptionalDouble.of(successValue);
+        }
+
+        @Override
+        public OptionalDouble toOptionalDouble(Consumer<F> failureHandler) {
+            return OptionalDouble.of(successValue);
+        }
+
+        @Override
+        public SimpleFailable<F> toSimpleFailable() {
+            return SimpleFailable.success();
+        }
+
+        @Override
+        public Failable<Double, F> boxed() {
+            return Failable.success(successValue);
+        }
+
+        @Override
+        public DoubleFailable<F> mapSuccess(DoubleUnaryOperator converter) {
+            return DoubleFailable.success(converter.applyAsDouble(successValue));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <nF> DoubleFailable<nF> mapFailure(Function<F, nF> converter) {
+            // a Success never holds an F, so this instance is also a valid DoubleFailable<nF>
+            return (DoubleFailable<nF>) this;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(this == other) {
+                return true;
+            }
+            if(!(other instanceof Success<?>)) {
+                return false;
+            }
+
+            // the same comparison as Double.equals, so NaN equals NaN and 0.0 differs from -0.0
+            return Double.compare(successValue, ((Success<?>) other).successValue) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(successValue);
+        }
+
+        @Override
+        public String toString() {
+            return "DoubleFailable.success(" + successValue + ")";
+        }
+    }
+
+    private static final class Failure<F> extends DoubleFailable<F> {
+        private final F failValue;
+
+        private Failure(F failValue) {
+            assert(failValue!=null);
+
+            this.failValue = failValue;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public double getAsDouble() {
+            throw new NoSuchElementException("This Failable did not succeed");
+        }
+
+        @Override
+        public F getFailure() {
+            return failValue;
+        }
+
+        @Override
+        public OptionalDouble toOptionalDouble() {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public OptionalDouble toOptionalDouble(Consumer<F> failureHandler) {
+            failureHandler.accept(failValue);
+
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public SimpleFailable<F> toSimpleFailable() {
+            return SimpleFailable.failure(failValue);
+        }
+
+        @Override
+        public Failable<Double, F> boxed() {
+            return Failable.failure(failValue);
+        }
+
+        @Override
+        public DoubleFailable<F> mapSuccess(DoubleUnaryOperator converter) {
+            return this;
+        }
+
+        @Override
+        public <nF> DoubleFailable<nF> mapFailure(Function<F, nF> converter) {
+            return DoubleFailable.failure(converter.apply(failValue));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(this == other) {
+                return true;
+            }
+            if(!(other instanceof Failure<?>)) {
+                return false;
+            }
+
+            return failValue.equals(((Failure<?>) other).failValue);
+        }
+
+        @Override
+        public int hashCode() {
+            // complemented so a success and a failure holding equal values do not collide
+            return ~failValue.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "DoubleFailable.failure(" + failValue + ")";
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package dev.errant.bettertype.basic.failable;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Handles a SimpleFailable with an enumerated failure reason by looking up the handler registered for the reason,
+ * rather than a chain of if/else or switch statements at each call site.
+ *
+ * Configure once (typically into a field) and then dispatch as many outcomes as needed;
+ * <pre>{@code
+ *     EnumFailureDispatcher<DoorNotClosedReason> handler = EnumFailureDispatcher.forEnum(DoorNotClosedReason.class)
+ *             .onSuccess(this::callItADay)
+ *             .on(DoorNotClosedReason.DOOR_STUCK, (reason) -> oilHinges())
+ *             .otherwise(this::fixIssue);
+ *
+ *     handler.dispatch(closeCoopDoor());
+ * }</pre>
+ *
+ * Configuration is not thread safe, but once configured and safely published dispatch can be called from any thread.
+ *
+ * @param <E> the enumerated failure type
+ */
+public class EnumFailureDispatcher<E extends Enum<E>> {
+    private static final Runnable NO_OP = () -> {};
+
+    private final Map<E, Consumer<? super E>> handlers;
+
+    private Runnable successHandler = NO_OP;
+    private Consumer<? super E> fallbackHandler;
+
+    private EnumFailureDispatcher(Class<E> enumType) {
+        this.handlers = new EnumMap<>(enumType);
+    }
+
+    /**
+     * @param enumType the enumerated failure type
+     * @param <E> the enumerated failure type
+     * @return a dispatcher with no handlers
+     */
+    public static <E extends Enum<E>> EnumFailureDispatcher<E> forEnum(Class<E> enumType) {
+        return new EnumFailureDispatcher<>(enumType);
+    }
+
+    /**
+     * @param handler called when the outcome is successful (by default nothing happens)
+     * @return this dispatcher
+     */
+    public EnumFailureDispatcher<E> onSuccess(Runnable handler) {
+        this.successHandler = handler;
+        return this;
+    }
+
+    /**
+     * @param reason the failure reason to handle
+     * @param handler called with the reason when the outcome is a failure for the given reason
+     * @return this dispatcher
+     */
+    public EnumFailureDispatcher<E> on(E reason, Consumer<? super E> handler) {
+        handlers.put(reason, handler);
+        return this;
+    }
+
+    /**
+     * @param handler called with the reason for any failure without a specific handler
+     * @return this dispatcher
+     */
+    public EnumFailureDispatcher<E> otherwise(Consumer<? super E> handler) {
+        this.fallbackHandler = handler;
+        return this;
+    }
+
+    /**
+     * Call the handler for the outcome.
+     *
+     * @param outcome the outcome to handle
+     * @throws IllegalStateException if the outcome is a failure with no handler for its reason and no fallback
+     */
+    public void dispatch(SimpleFailable<E> outcome) {
+        if(outcome.isSuccess()) {
+            successHandler.run();
+            return;
+        }
+
+        E reason = outcome.getFailure();
+        Consumer<? super E> handler = handlers.getOrDefault(reason, fallbackHandler);
+
+        if(handler == null) {
+            throw new IllegalStateException("No handler for failure reason " + reason);
+        }
+
+        handler.accept(reason);
+    }
+
+}
@@ -1,11 +1,21 @@
 package dev.errant.bettertype.basic.failable;
 
 import dev.errant.bettertype.basic.absorber.AbsorbableSupplierAction;
+import dev.errant.bettertype.basic.absorber.DeadlineExceededAbsorbed;
 import dev.errant.bettertype.basic.absorber.NullValueAbsorbed;
+import dev.errant.bettertype.basic.absorber.jfr.AbsorbEvent;
+import dev.errant.bettertype.basic.absorber.jfr.AbsorbEvents;
+import dev.errant.bettertype.basic.absorber.metrics.AbsorbRecorder;
+import dev.errant.bettertype.basic.absorber.metrics.AbsorbRecorders;
 import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
 
+import java.time.Duration;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -16,80 +26,52 @@ import java.util.function.Function;
  *
  * The failure type F may be an Exception, but in some cases it may make sense for this to be another arbitrary object.
  * For example failing with an enumerated HTTP status, String or complex type.
+ *
+ * Failables compare by value; two successes are equal when their success values are equal, two failures when their
+ * failure values are, and a success never equals a failure.
  */
-final public class Failable<S, F> {
-    private final S successValue;
-    private final F failValue;
-
-    private Failable(S successValue, F failValue) {
-        assert(successValue==null || failValue==null);
-        assert(! (successValue==null && failValue==null));
+abstract public class Failable<S, F> {
 
-        this.successValue = successValue;
-        this.failValue = failValue;
+    /**
+     * Failable is a closed hierarchy of exactly two implementations, Success and Failure, each holding
+     * only its own value. The private constructor prevents any other subclass.
+     */
+    private Failable() {
     }
 
     /**
      * @return true if the outcome is successful, false otherwise
      */
-    public boolean isSuccess() {
-        return successValue != null;
-    }
+    public abstract boolean isSuccess();
 
     /**
      * @return true if the outcome is failure, false otherwise
      */
-    public boolean isFailure() {
-        return failValue != null;
-    }
+    public abstract boolean isFailure();
 
     /**
      * @return if successful, the value of the success
      */
-    public S getSuccess() {
-        if(isFailure()) {
-            throw new NoSuchElementException("This Failable did not succeed");
-        }
-
-        return this.successValue;
-    }
+    public abstract S getSuccess();
 
     /**
      * @return if failure, the value of the failure
      */
-    public F getFailure() {
-        if(isSuccess()) {
-            throw new NoSuchElementException("This Failable value did not fail");
-        }
-
-        return this.failValue;
-    }
+    public abstract F getFailure();
 
     /**
      * Convert this Failable to an Optional of the Success type.
      *
      * @return an optional representing the success case (optionally present if success)
      */
-    public Optional<S> toOptional() {
-        return Optional.ofNullable(successValue);
-    }
+    public abstract Optional<S> toOptional();
 
     /**
      * Convert this Failable to an Optional of the SimpleFailable type.
      *
      * @return a SimpleFailable representing the failure case (discarding the success value)
      */
-    public SimpleFailable<F> toSimpleFailable() {
-        final SimpleFailable<F> result;
-
-        if(isFailure()) {
-            result = SimpleFailable.failure(failValue);
-        } else {
-            result = SimpleFailable.success();
-        }
-
-        return result;
-    }
+    public abstract SimpleFailable<F> toSimpleFailable();
 
     /**
      * Convert this Failable to an Optional of the Success type. If this Failable is a failure, the failureHandler is
@@ -98,13 +80,7 @@ final public class Failable<S, F> {
      * @param failureHandler handles the failure value
      * @return an optional representing the success case (optionally present if success)
      */
-    public Optional<S> toOptional(Consumer<F> failureHandler) {
-        if(isFailure()) {
-            failureHandler.accept(failValue);
-        }
-
-        return Optional.ofNullable(successValue);
-    }
+    public abstract Optional<S> toOptional(Consumer<F> failureHandler);
 
     /**
      * Convert this Failable to a new Failable, mapping the success value if present.
@@ -113,18 +89,7 @@ final public class Failable<S, F> {
      * @param <nS> the type of the new success value
      * @return an update Failable with a mapped success value if present
      */
-    public <nS> Failable<nS, F> mapSuccess(Function<S, nS> converter) {
-        final Failable<nS, F> result;
-
-        if(isSuccess()) {
-            nS convertedSuccess = converter.apply(getSuccess());
-            result = Failable.success(convertedSuccess);
-        } else {
-            result = Failable.failure(getFailure());
-        }
-
-        return result;
-    }
+    public abstract <nS> Failable<nS, F> mapSuccess(Function<S, nS> converter);
 
     /**
      * Convert this Failable to a new Failable, mapping the failure value if present.
@@ -133,18 +98,7 @@ final public class Failable<S, F> {
      * @param <nF> the type of the new failure value
      * @return an update Failable with a mapped failure value, if present
      */
-    public <nF> Failable<S, nF> mapFailure(Function<F, nF> converter) {
-        final Failable<S, nF> result;
-
-        if(isFailure()) {
-            nF convertedFailure = converter.apply(getFailure());
-            result = Failable.failure(convertedFailure);
-        } else {
-            result = Failable.success(getSuccess());
-        }
-
-        return result;
-    }
+    public abstract <nF> Failable<S, nF> mapFailure(Function<F, nF> converter);
 
     /**
      * @param successValue the non-null success value
@@ -153,7 +107,7 @@ final public class Failable<S, F> {
      * @return A Failable representing a success with a value
      */
     public static <S, F> Failable<S, F> success(S successValue) {
-        return new Failable<S, F>(successValue, null);
+        return new Success<S, F>(successValue);
     }
 
     /**
@@ -163,7 +117,7 @@ final public class Failable<S, F> {
      * @return A Failable representing a failure with a value
      */
     public static <S, F> Failable<S, F> failure(F failValue) {
-        return new Failable<S, F>(null, failValue);
+        return new Failure<S, F>(failValue);
     }
 
     /**
@@ -195,22 +149,354 @@ final public class Failable<S, F> {
      * @return A Failable containing either the Success or Failure value
      */
     public static <S, F> Failable<S,F> absorb(AbsorbableSupplierAction<S> action, ExceptionConverter< F> converter) {
+        if(AbsorbEvents.isEnabled()) {
+            return absorbObserved(null, AbsorbRecorders.noop(), action, converter);
+        }
+
         S outcome = null;
-        F failure = null;
+        Exception exception = null;
 
         try {
             outcome = action.act();
-        } catch (Exception exception) {
-            failure = converter.convert(exception);
+        } catch (Exception caught) {
+            exception = caught;
         }
 
+        return outcomeOf(outcome, exception, converter);
+    }
+
+    /**
+     * As {@link #absorb(AbsorbableSupplierAction)}, also reporting the outcome to the installed
+     * {@link AbsorbRecorder} under the given call site name.
+     *
+     * @param site names the call site in the recorded metrics, not null
+     * @param action the action to perform
+     * @param <S> the success type (inferred from action)
+     * @return failable either with the success value or the caught exception
+     */
+    public static <S> Failable<S, Exception> absorb(String site, AbsorbableSupplierAction<S> action) {
+        return absorb(site, action, (value) -> value);
+    }
+
+    /**
+     * As {@link #absorb(AbsorbableSupplierAction, ExceptionConverter)}, also reporting the outcome, exception type and
+     * time taken by the action to the installed {@link AbsorbRecorder} under the given call site name. When no recorder
+     * is installed this is a plain absorb.
+     *
+     * @param site names the call site in the recorded metrics, not null
+     * @param action the action to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param <S> the success type (inferred from action)
+     * @param <F> the failable type (inferred from converter)
+     * @return A Failable containing either the Success or Failure value
+     * @throws NullPointerException if site is null, whether or not anything is observing
+     */
+    public static <S, F> Failable<S, F> absorb(String site, AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter) {
+        Objects.requireNonNull(site, "site");
+        AbsorbRecorder recorder = AbsorbRecorders.installed();
+        if(recorder == AbsorbRecorders.noop() && !AbsorbEvents.isEnabled()) {
+            return absorb(action, converter);
+        }
+
+        return absorbObserved(site, recorder, action, converter);
+    }
+
+    /**
+     * Turns what an action produced into a Failable, shared by every absorb so that observing an absorb never changes its
+     * result. A null value, or a converter answering null for the exception thrown, is converted as NullValueAbsorbed.
+     */
+    private static <S, F> Failable<S, F> outcomeOf(S outcome, Exception exception, ExceptionConverter<F> converter) {
         if(outcome!=null) {
             return Failable.success(outcome);
+        }
+
+        F failure = exception == null
+                ? converter.convert(NullValueAbsorbed.instance())
+                : converter.convertToFailure(exception);
+        return Failable.failure(failure);
+    }
+
+    /**
+     * The absorb used when anything is observing it, reporting to the recorder and emitting Flight Recorder events
+     */
+    private static <S, F> Failable<S, F> absorbObserved(String site, AbsorbRecorder recorder, AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter) {
+        AbsorbEvent event = AbsorbEvents.isEnabled() ? AbsorbEvents.begin() : null;
+
+        S outcome = null;
+        Exception exception = null;
+
+        long started = System.nanoTime();
+        try {
+            outcome = action.act();
+        } catch (Exception caught) {
+            exception = caught;
+        }
+        long elapsed = System.nanoTime() - started;
+
+        Failable<S, F> result = outcomeOf(outcome, exception, converter);
+        if(result.isSuccess()) {
+            recorder.record(site, true, null, elapsed);
         } else {
-            if(failure==null) {
-                failure = converter.convert(new NullValueAbsorbed());
+            Exception reported = exception != null ? exception : NullValueAbsorbed.instance();
+            recorder.record(site, false, reported.getClass(), elapsed);
+            if(event != null) {
+                AbsorbEvents.failure(site, reported, result.getFailure());
             }
-            return Failable.failure(failure);
+        }
+
+        if(event != null) {
+            AbsorbEvents.end(event, site, result.isSuccess());
+        }
+        return result;
+    }
+
+    /**
+     * As {@link #absorb(AbsorbableSupplierAction)}, but the action is run on the given executor rather than the calling
+     * thread.
+     *
+     * @param action the action to perform
+     * @param executor runs the action
+     * @param <S> the success type (inferred from action)
+     * @return a future completed with a failable either with the success value or the caught exception
+     */
+    public static <S> CompletableFuture<Failable<S, Exception>> absorbAsync(AbsorbableSupplierAction<S> action, Executor executor) {
+        return absorbAsync(action, (value) -> value, executor);
+    }
+
+    /**
+     * As {@link #absorb(AbsorbableSupplierAction, ExceptionConverter)}, but the action is run on the given executor
+     * rather than the calling thread. Any exception thrown by the action is passed to the converter on the executor's
+     * thread.
+     *
+     * The future never completes exceptionally because of the action. If the executor rejects the action the
+     * RejectedExecutionException is converted (on the calling thread) into the failure value. Only an exception thrown
+     * by the converter itself completes the future exceptionally.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param executor runs the action
+     * @param <S> the success type (inferred from action)
+     * @param <F> the failable type (inferred from converter)
+     * @return a future completed with a Failable containing either the Success or Failure value
+     */
+    public static <S, F> CompletableFuture<Failable<S, F>> absorbAsync(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter, Executor executor) {
+        CompletableFuture<Failable<S, F>> result = new CompletableFuture<>();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(absorb(action, converter));
+                } catch (Throwable converterFailure) {
+                    result.completeExceptionally(converterFailure);
+                }
+            });
+        } catch (RejectedExecutionException rejected) {
+            result.complete(Failable.failure(converter.convert(rejected)));
+        }
+
+        return result;
+    }
+
+    /**
+     * As {@link #absorb(AbsorbableSupplierAction)}, but the action is run on the given executor and given at most timeout
+     * to finish.
+     *
+     * @param action the action to perform
+     * @param timeout how long to wait for the action
+     * @param executor runs the action
+     * @param <S> the success type (inferred from action)
+     * @return failable either with the success value or the caught exception
+     */
+    public static <S> Failable<S, Exception> absorb(AbsorbableSupplierAction<S> action, Duration timeout, Executor executor) {
+        return absorb(action, (value) -> value, timeout, executor);
+    }
+
+    /**
+     * As {@link #absorb(AbsorbableSupplierAction, ExceptionConverter)}, but the action is run on the given executor and
+     * given at most timeout to finish. The calling thread waits for the outcome.
+     *
+     * If the deadline passes the action is cancelled, interrupting the thread running it, and the shared
+     * {@link DeadlineExceededAbsorbed} marker is passed to the converter. No thread is created here; an action that
+     * ignores interruption keeps its executor thread busy until it finishes, but its outcome is discarded.
+     *
+     * If the executor rejects the action, or the calling thread is interrupted while waiting, that exception is
+     * converted into the failure value instead. The calling thread's interrupt status is restored.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param timeout how long to wait for the action
+     * @param executor runs the action
+     * @param <S> the success type (inferred from action)
+     * @param <F> the failable type (inferred from converter)
+     * @return A Failable containing either the Success or Failure value
+     */
+    public static <S, F> Failable<S, F> absorb(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter, Duration timeout, Executor executor) {
+        return Deadline.await(
+                () -> absorb(action, converter),
+                timeout,
+                executor,
+                (exception) -> Failable.failure(converter.convert(exception))
+        );
+    }
+
+    private static final class Success<S, F> extends Failable<S, F> {
+        private final S successValue;
+
+        private Success(S successValue) {
+            assert(successValue!=null);
+
+            this.successValue = successValue;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public S getSuccess() {
+            return successValue;
+        }
+
+        @Override
+        public F getFailure() {
+            throw new NoSuchElementException("This Failable value did not fail");
+        }
+
+        @Override
+        public Optional<S> toOptional() {
+            return Optional.of(successValue);
+        }
+
+        @Override
+        public SimpleFailable<F> toSimpleFailable() {
+            return SimpleFailable.success();
+        }
+
+        @Override
+        public Optional<S> toOptional(Consumer<F> failureHandler) {
+            return Optional.of(successValue);
+        }
+
+        @Override
+        public <nS> Failable<nS, F> mapSuccess(Function<S, nS> converter) {
+            return Failable.success(converter.apply(successValue));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <nF> Failable<S, nF> mapFailure(Function<F, nF> converter) {
+            // a Success never holds an F, so this instance is also a valid Failable<S, nF>
+            return (Failable<S, nF>) this;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(this == other) {
+                return true;
+            }
+            if(!(other instanceof Success<?, ?>)) {
+                return false;
+            }
+
+            return successValue.equals(((Success<?, ?>) other).successValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return successValue.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Failable.success(" + successValue + ")";
+        }
+    }
+
+    private static final class Failure<S, F> extends Failable<S, F> {
+        private final F failValue;
+
+        private Failure(F failValue) {
+            assert(failValue!=null);
+
+            this.failValue = failValue;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public S getSuccess() {
+            throw new NoSuchElementException("This Failable did not succeed");
+        }
+
+        @Override
+        public F getFailure() {
+            return failValue;
+        }
+
+        @Override
+        public Optional<S> toOptional() {
+            return Optional.empty();
+        }
+
+        @Override
+        public SimpleFailable<F> toSimpleFailable() {
+            return SimpleFailable.failure(failValue);
+        }
+
+        @Override
+        public Optional<S> toOptional(Consumer<F> failureHandler) {
+            failureHandler.accept(failValue);
+
+            return Optional.empty();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <nS> Failable<nS, F> mapSuccess(Function<S, nS> converter) {
+            // a Failure never holds an S, so this instance is also a valid Failable<nS, F>
+            return (Failable<nS, F>) this;
+        }
+
+        @Override
+        public <nF> Failable<S, nF> mapFailure(Function<F, nF> converter) {
+            return Failable.failure(converter.apply(failValue));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(this == other) {
+                return true;
+            }
+            if(!(other instanceof Failure<?, ?>)) {
+                return false;
+            }
+
+            return failValue.equals(((Failure<?, ?>) other).failValue);
+        }
+
+        @Override
+        public int hashCode() {
+            // complemented so a success and a failure holding equal values do not collide
+            return ~failValue.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Failable.failure(" + failValue + ")";
         }
     }
 
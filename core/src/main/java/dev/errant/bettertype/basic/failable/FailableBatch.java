@@ -0,0 +1,401 @@
+package dev.errant.bettertype.basic.failable;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+
+/**
+ * An immutable, indexed sequence of outcomes stored column by column rather than as a Failable per element. Successes
+ * sit in a single array, failures in a sparse store holding only the positions that failed, and a bit mask records
+ * which positions failed. A batch of millions of mostly successful outcomes costs a reference per element plus a bit,
+ * where a List of Failables costs a reference plus a whole Failable per element.
+ *
+ * Build one with {@link #builder()}, or collect a stream of Failables with {@link #collector()};
+ * <pre>{@code
+ *     FailableBatch<Chicken, String> chickens = coopFiles.stream()
+ *             .map(this::readChicken)
+ *             .collect(FailableBatch.collector());
+ *
+ *     chickens.forEachFailure(this::reportMissingChicken);
+ * }</pre>
+ *
+ * Counts are answered in constant time, checking the outcome at a position in constant time, and fetching a failure
+ * in logarithmic time of the number of failures.
+ *
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+public final class FailableBatch<S, F> {
+    private final int size;
+
+    /**
+     * The success value at each position, null where the outcome failed
+     */
+    private final Object[] successes;
+
+    /**
+     * A set bit marks a failed position
+     */
+    private final long[] failureMask;
+
+    /**
+     * Failed positions in ascending order, matching failureValues element for element
+     */
+    private final int[] failureIndices;
+    private final Object[] failureValues;
+
+    private FailableBatch(int size, Object[] successes, long[] failureMask, int[] failureIndices, Object[] failureValues) {
+        this.size = size;
+        this.successes = successes;
+        this.failureMask = failureMask;
+        this.failureIndices = failureIndices;
+        this.failureValues = failureValues;
+    }
+
+    /**
+     * @param <S> the success type
+     * @param <F> the failure type
+     * @return an empty builder
+     */
+    public static <S, F> Builder<S, F> builder() {
+        return new Builder<>(16);
+    }
+
+    /**
+     * @param expectedSize the number of outcomes expected, so the builder can size its storage up front
+     * @param <S> the success type
+     * @param <F> the failure type
+     * @return an empty builder
+     */
+    public static <S, F> Builder<S, F> builder(int expectedSize) {
+        if(expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative, was " + expectedSize);
+        }
+
+        return new Builder<>(expectedSize);
+    }
+
+    /**
+     * Collects a stream of Failables into a batch, keeping encounter order. Parallel streams are supported, each
+     * thread builds its own part of the batch and the parts are concatenated.
+     *
+     * @param <S> the success type
+     * @param <F> the failure type
+     * @return a collector producing a FailableBatch
+     */
+    public static <S, F> Collector<Failable<S, F>, ?, FailableBatch<S, F>> collector() {
+        return Collector.of(
+                FailableBatch::<S, F>builder,
+                Builder::add,
+                Builder::addAll,
+                Builder::build
+        );
+    }
+
+    /**
+     * @return the number of outcomes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of successful outcomes
+     */
+    public int successCount() {
+        return size - failureIndices.length;
+    }
+
+    /**
+     * @return the number of failed outcomes
+     */
+    public int failureCount() {
+        return failureIndices.length;
+    }
+
+    /**
+     * @return true if every outcome is a success
+     */
+    public boolean isAllSuccess() {
+        return failureIndices.length == 0;
+    }
+
+    /**
+     * @param index the position of the outcome
+     * @return true if the outcome at the position is a success
+     * @throws IndexOutOfBoundsException if the position is outside the batch
+     */
+    public boolean isSuccess(int index) {
+        return !isFailure(index);
+    }
+
+    /**
+     * @param index the position of the outcome
+     * @return true if the outcome at the position is a failure
+     * @throws IndexOutOfBoundsException if the position is outside the batch
+     */
+    public boolean isFailure(int index) {
+        Objects.checkIndex(index, size);
+        return (failureMask[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @param index the position of the outcome
+     * @return the success value at the position
+     * @throws NoSuchElementException if the outcome at the position is a failure
+     * @throws IndexOutOfBoundsException if the position is outside the batch
+     */
+    @SuppressWarnings("unchecked")
+    public S getSuccess(int index) {
+        if(isFailure(index)) {
+            throw new NoSuchElementException("The outcome at " + index + " did not succeed");
+        }
+
+        return (S) successes[index];
+    }
+
+    /**
+     * @param index the position of the outcome
+     * @return the failure value at the position
+     * @throws NoSuchElementException if the outcome at the position is a success
+     * @throws IndexOutOfBoundsException if the position is outside the batch
+     */
+    @SuppressWarnings("unchecked")
+    public F getFailure(int index) {
+        if(isSuccess(index)) {
+            throw new NoSuchElementException("The outcome at " + index + " did not fail");
+        }
+
+        return (F) failureValues[Arrays.binarySearch(failureIndices, index)];
+    }
+
+    /**
+     * Creates a Failable for the outcome at the position, prefer the other accessors when iterating large batches.
+     *
+     * @param index the position of the outcome
+     * @return the outcome at the position
+     * @throws IndexOutOfBoundsException if the position is outside the batch
+     */
+    public Failable<S, F> get(int index) {
+        return isSuccess(index) ? Failable.success(getSuccess(index)) : Failable.failure(getFailure(index));
+    }
+
+    /**
+     * @param action called with each success value, in position order
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachSuccess(Consumer<? super S> action) {
+        for(int index = nextSuccessIndex(0); index >= 0; index = nextSuccessIndex(index + 1)) {
+            action.accept((S) successes[index]);
+        }
+    }
+
+    /**
+     * @param action called with each failure value, in position order
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachFailure(Consumer<? super F> action) {
+        for(Object failure : failureValues) {
+            action.accept((F) failure);
+        }
+    }
+
+    /**
+     * @return the success values in position order, skipping the failed positions
+     */
+    public Iterable<S> successes() {
+        return SuccessIterator::new;
+    }
+
+    /**
+     * @return an unmodifiable view of the failure values in position order
+     */
+    public List<F> failures() {
+        return new AbstractList<F>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public F get(int index) {
+                return (F) failureValues[index];
+            }
+
+            @Override
+            public int size() {
+                return failureValues.length;
+            }
+        };
+    }
+
+    /**
+     * @return the failed positions in ascending order, matching {@link #failures()} element for element
+     */
+    public int[] getFailureIndices() {
+        return failureIndices.clone();
+    }
+
+    /**
+     * Scans the failure mask a word at a time, so long runs of successes cost one check per 64 positions
+     *
+     * @return the first successful position at or after from, or -1 if there is none
+     */
+    private int nextSuccessIndex(int from) {
+        if(from >= size) {
+            return -1;
+        }
+
+        int word = from >>> 6;
+        long candidates = ~failureMask[word] & (-1L << from);
+        while(true) {
+            if(candidates != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(candidates);
+                return index < size ? index : -1;
+            }
+            if(++word == failureMask.length) {
+                return -1;
+            }
+            candidates = ~failureMask[word];
+        }
+    }
+
+    private final class SuccessIterator implements Iterator<S> {
+        private int next = nextSuccessIndex(0);
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public S next() {
+            if(next < 0) {
+                throw new NoSuchElementException();
+            }
+
+            S success = (S) successes[next];
+            next = nextSuccessIndex(next + 1);
+            return success;
+        }
+    }
+
+    /**
+     * Accumulates outcomes for a FailableBatch. Not thread safe; building takes a copy, so the builder can keep
+     * accumulating afterwards without affecting batches already built.
+     *
+     * @param <S> the success type
+     * @param <F> the failure type
+     */
+    public static final class Builder<S, F> {
+        private int size;
+
+        /**
+         * Always grown together, so the mask has a bit for every slot in successes
+         */
+        private Object[] successes;
+        private long[] failureMask;
+
+        private int failureCount;
+        private int[] failureIndices = new int[4];
+        private Object[] failureValues = new Object[4];
+
+        private Builder(int expectedSize) {
+            this.successes = new Object[expectedSize];
+            this.failureMask = new long[(expectedSize + 63) >>> 6];
+        }
+
+        /**
+         * @param outcome the outcome to append
+         * @return this builder
+         */
+        public Builder<S, F> add(Failable<S, F> outcome) {
+            if(outcome.isSuccess()) {
+                return addSuccess(outcome.getSuccess());
+            }
+            return addFailure(outcome.getFailure());
+        }
+
+        /**
+         * @param successValue the success value to append
+         * @return this builder
+         */
+        public Builder<S, F> addSuccess(S successValue) {
+            assert(successValue!=null);
+
+            ensurePositions(size + 1);
+            successes[size++] = successValue;
+            return this;
+        }
+
+        /**
+         * @param failValue the failure value to append
+         * @return this builder
+         */
+        public Builder<S, F> addFailure(F failValue) {
+            assert(failValue!=null);
+
+            ensurePositions(size + 1);
+            ensureFailures(failureCount + 1);
+            failureMask[size >>> 6] |= 1L << size;
+            failureIndices[failureCount] = size;
+            failureValues[failureCount++] = failValue;
+            size++;
+            return this;
+        }
+
+        /**
+         * @param other a builder whose outcomes are appended after this builder's
+         * @return this builder
+         */
+        public Builder<S, F> addAll(Builder<S, F> other) {
+            int offset = size;
+
+            ensurePositions(size + other.size);
+            System.arraycopy(other.successes, 0, successes, offset, other.size);
+
+            ensureFailures(failureCount + other.failureCount);
+            for(int i = 0; i < other.failureCount; i++) {
+                int index = offset + other.failureIndices[i];
+                failureMask[index >>> 6] |= 1L << index;
+                failureIndices[failureCount] = index;
+                failureValues[failureCount++] = other.failureValues[i];
+            }
+
+            size += other.size;
+            return this;
+        }
+
+        /**
+         * @return a batch of the outcomes added so far
+         */
+        public FailableBatch<S, F> build() {
+            return new FailableBatch<>(
+                    size,
+                    Arrays.copyOf(successes, size),
+                    Arrays.copyOf(failureMask, (size + 63) >>> 6),
+                    Arrays.copyOf(failureIndices, failureCount),
+                    Arrays.copyOf(failureValues, failureCount)
+            );
+        }
+
+        private void ensurePositions(int required) {
+            if(required > successes.length) {
+                int capacity = Math.max(required, Math.max(16, successes.length * 2));
+                successes = Arrays.copyOf(successes, capacity);
+                failureMask = Arrays.copyOf(failureMask, (capacity + 63) >>> 6);
+            }
+        }
+
+        private void ensureFailures(int required) {
+            if(required > failureIndices.length) {
+                int capacity = Math.max(required, failureIndices.length * 2);
+                failureIndices = Arrays.copyOf(failureIndices, capacity);
+                failureValues = Arrays.copyOf(failureValues, capacity);
+            }
+        }
+    }
+
+}
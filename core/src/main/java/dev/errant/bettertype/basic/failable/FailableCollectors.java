@@ -0,0 +1,208 @@
+package dev.errant.bettertype.basic.failable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Collectors that take a stream of Failables apart in a single pass, rather than filtering and mapping the stream once
+ * for the successes and again for the failures.
+ *
+ * Every collector combines partial results correctly, so they can be used with parallel streams. Partitioning and
+ * allOrFirstFailure keep encounter order, counting does not depend on it.
+ */
+public final class FailableCollectors {
+
+    private FailableCollectors() {
+    }
+
+    /**
+     * Splits the stream into its success values and its failure values.
+     *
+     * @param <S> the success type
+     * @param <F> the failure type
+     * @return a collector producing both partitions, each in encounter order
+     */
+    public static <S, F> Collector<Failable<S, F>, ?, Partition<S, F>> partitioning() {
+        return Collector.of(
+                PartitionAccumulator<S, F>::new,
+                PartitionAccumulator::add,
+                PartitionAccumulator::combine,
+                PartitionAccumulator::finish
+        );
+    }
+
+    /**
+     * Gathers every success value if the whole stream succeeded, otherwise the first failure in encounter order.
+     *
+     * Collecting cannot stop the stream early, but once a failure has been seen the success values are dropped and
+     * the rest of that part of the stream is ignored, so nothing more is retained.
+     *
+     * @param <S> the success type
+     * @param <F> the failure type
+     * @return a collector producing a success of every success value, or the first failure
+     */
+    public static <S, F> Collector<Failable<S, F>, ?, Failable<List<S>, F>> allOrFirstFailure() {
+        return Collector.of(
+                AllOrFirstFailureAccumulator<S, F>::new,
+                AllOrFirstFailureAccumulator::add,
+                AllOrFirstFailureAccumulator::combine,
+                AllOrFirstFailureAccumulator::finish
+        );
+    }
+
+    /**
+     * Counts the successes and failures without retaining any values.
+     *
+     * @param <S> the success type
+     * @param <F> the failure type
+     * @return a collector producing the number of successes and failures
+     */
+    public static <S, F> Collector<Failable<S, F>, ?, Counts> counting() {
+        return Collector.of(
+                () -> new long[2],
+                (counts, outcome) -> counts[outcome.isSuccess() ? 0 : 1]++,
+                (left, right) -> {
+                    left[0] += right[0];
+                    left[1] += right[1];
+                    return left;
+                },
+                (counts) -> new Counts(counts[0], counts[1]),
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * The success and failure values of a stream of Failables.
+     *
+     * @param <S> the success type
+     * @param <F> the failure type
+     */
+    public static final class Partition<S, F> {
+        private final List<S> successes;
+        private final List<F> failures;
+
+        private Partition(List<S> successes, List<F> failures) {
+            this.successes = Collections.unmodifiableList(successes);
+            this.failures = Collections.unmodifiableList(failures);
+        }
+
+        /**
+         * @return the success values in encounter order
+         */
+        public List<S> getSuccesses() {
+            return successes;
+        }
+
+        /**
+         * @return the failure values in encounter order
+         */
+        public List<F> getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return true if there were no failures
+         */
+        public boolean isAllSuccess() {
+            return failures.isEmpty();
+        }
+    }
+
+    /**
+     * The number of successes and failures in a stream of Failables.
+     */
+    public static final class Counts {
+        private final long successCount;
+        private final long failureCount;
+
+        private Counts(long successCount, long failureCount) {
+            this.successCount = successCount;
+            this.failureCount = failureCount;
+        }
+
+        /**
+         * @return the number of successes
+         */
+        public long getSuccessCount() {
+            return successCount;
+        }
+
+        /**
+         * @return the number of failures
+         */
+        public long getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * @return the number of successes and failures together
+         */
+        public long getTotal() {
+            return successCount + failureCount;
+        }
+    }
+
+    private static final class PartitionAccumulator<S, F> {
+        private final List<S> successes = new ArrayList<>();
+        private final List<F> failures = new ArrayList<>();
+
+        private void add(Failable<S, F> outcome) {
+            if(outcome.isSuccess()) {
+                successes.add(outcome.getSuccess());
+            } else {
+                failures.add(outcome.getFailure());
+            }
+        }
+
+        private PartitionAccumulator<S, F> combine(PartitionAccumulator<S, F> right) {
+            successes.addAll(right.successes);
+            failures.addAll(right.failures);
+            return this;
+        }
+
+        private Partition<S, F> finish() {
+            return new Partition<>(successes, failures);
+        }
+    }
+
+    private static final class AllOrFirstFailureAccumulator<S, F> {
+        private List<S> successes = new ArrayList<>();
+        private F failure;
+
+        private void add(Failable<S, F> outcome) {
+            if(failure != null) {
+                return;
+            }
+
+            if(outcome.isSuccess()) {
+                successes.add(outcome.getSuccess());
+            } else {
+                failure = outcome.getFailure();
+                successes = null;
+            }
+        }
+
+        private AllOrFirstFailureAccumulator<S, F> combine(AllOrFirstFailureAccumulator<S, F> right) {
+            // the left part comes first in encounter order, so its failure wins
+            if(failure != null) {
+                return this;
+            }
+            if(right.failure != null) {
+                return right;
+            }
+
+            successes.addAll(right.successes);
+            return this;
+        }
+
+        private Failable<List<S>, F> finish() {
+            if(failure != null) {
+                return Failable.failure(failure);
+            }
+            return Failable.success(Collections.unmodifiableList(successes));
+        }
+    }
+
+}
@@ -0,0 +1,315 @@
+package dev.errant.bettertype.basic.failable;
+
+import dev.errant.bettertype.basic.absorber.AbsorbableIntSupplierAction;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An int specialization of {@link Failable}; either a successful int value, or a failure value of type F.
+ *
+ * The success value is held as a primitive, so creating, mapping and reading a successful IntFailable never boxes.
+ */
+abstract public class IntFailable<F> {
+
+    /**
+     * IntFailable is a closed hierarchy of exactly two implementations, Success and Failure. The private constructor
+     * prevents any other subclass.
+     */
+    private IntFailable() {
+    }
+
+    /**
+     * @return true if the outcome is successful, false otherwise
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * @return true if the outcome is failure, false otherwise
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * @return if successful, the value of the success
+     * @throws NoSuchElementException if the instance is a failure (check before calling)
+     */
+    public abstract int getAsInt();
+
+    /**
+     * @return if failure, the value of the failure
+     * @throws NoSuchElementException if the instance is successful (check before calling)
+     */
+    public abstract F getFailure();
+
+    /**
+     * Convert this IntFailable to an OptionalInt.
+     *
+     * @return an OptionalInt representing the success case (optionally present if success)
+     */
+    public abstract OptionalInt toOptionalInt();
+
+    /**
+     * Convert this IntFailable to an OptionalInt. If this IntFailable is a failure, the failureHandler is first called to
+     * handle the failure.
+     *
+     * @param failureHandler handles the failure value
+     * @return an OptionalInt representing the success case (optionally present if success)
+     */
+    public abstract OptionalInt toOptionalInt(Consumer<F> failureHandler);
+
+    /**
+     * Convert this IntFailable to a SimpleFailable.
+     *
+     * @return a SimpleFailable representing the failure case (discarding the success value)
+     */
+    public abstract SimpleFailable<F> toSimpleFailable();
+
+    /**
+     * Convert this IntFailable to a Failable, boxing the success value if present.
+     *
+     * @return an equivalent Failable
+     */
+    public abstract Failable<Integer, F> boxed();
+
+    /**
+     * Convert this IntFailable to a new IntFailable, mapping the success value if present.
+     *
+     * @param converter converts the current success value to a new value
+     * @return an updated IntFailable with a mapped success value if present
+     */
+    public abstract IntFailable<F> mapSuccess(IntUnaryOperator converter);
+
+    /**
+     * Convert this IntFailable to a new IntFailable, mapping the failure value if present.
+     *
+     * @param converter converts the current failure value to a new value
+     * @param <nF> the type of the new failure value
+     * @return an updated IntFailable with a mapped failure value, if present
+     */
+    public abstract <nF> IntFailable<nF> mapFailure(Function<F, nF> converter);
+
+    /**
+     * @param successValue the success value
+     * @param <F> inferred failure type
+     * @return An IntFailable representing a success with a value
+     */
+    public static <F> IntFailable<F> success(int successValue) {
+        return new Success<F>(successValue);
+    }
+
+    /**
+     * @param failValue the non-null fail value
+     * @param <F> inferred failure type
+     * @return An IntFailable representing a failure with a value
+     */
+    public static <F> IntFailable<F> failure(F failValue) {
+        return new Failure<F>(failValue);
+    }
+
+    /**
+     * Runs the action function, returning the result as the "success" value of an IntFailable. If an exception is thrown
+     * the exception becomes the failure value.
+     *
+     * @param action the action to perform
+     * @return IntFailable either with the success value or the caught exception
+     */
+    public static IntFailable<Exception> absorb(AbsorbableIntSupplierAction action) {
+        return absorb(action, (value) -> value );
+    }
+
+    /**
+     * Runs the action function, returning the result as the "success" value of an IntFailable. If an exception is thrown
+     * the exception is passed to the converter, and the output of the converter becomes the failure value.
+     *
+     * A primitive can never be null, so the converter only receives NullValueAbsorbed when, as with Failable.absorb, it
+     * converted the exception thrown to null.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param <F> the failable type (inferred from converter)
+     * @return An IntFailable containing either the Success or Failure value
+     */
+    public static <F> IntFailable<F> absorb(AbsorbableIntSupplierAction action, ExceptionConverter<F> converter) {
+        final int outcome;
+
+        try {
+            outcome = action.act();
+        } catch (Exception exception) {
+            return IntFailable.failure(converter.convertToFailure(exception));
+        }
+
+        return IntFailable.success(outcome);
+    }
+
+    private static final class Success<F> extends IntFailable<F> {
+        private final int successValue;
+
+        private Success(int successValue) {
+            this.successValue = successValue;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public int getAsInt() {
+            return successValue;
+        }
+
+        @Override
+        public F getFailure() {
+            throw new NoSuchElementException("This Failable value did not fail");
+        }
+
+        @Override
+        public OptionalInt toOptionalInt() {
+            return OptionalInt.of(successValue);
+        }
+
+        @Override
+        public OptionalInt toOptionalInt(Consumer<F> failureHandler) {
+            return OptionalInt.of(successValue);
+        }
+
+        @Override
+        public SimpleFailable<F> toSimpleFailable() {
+            return SimpleFailable.success();
+        }
+
+        @Override
+        public Failable<Integer, F> boxed() {
+            return Failable.success(successValue);
+        }
+
+        @Override
+        public IntFailable<F> mapSuccess(IntUnaryOperator converter) {
+            return IntFailable.success(converter.applyAsInt(successValue));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <nF> IntFailable<nF> mapFailure(Function<F, nF> converter) {
+            // a Success never holds an F, so this instance is also a valid IntFailable<nF>
+            return (IntFailable<nF>) this;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(this == other) {
+                return true;
+            }
+            if(!(other instanceof Success<?>)) {
+                return false;
+            }
+
+            return successValue == ((Success<?>) other).successValue;
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(successValue);
+        }
+
+        @Override
+        public String toString() {
+            return "IntFailable.success(" + successValue + ")";
+        }
+    }
+
+    private static final class Failure<F> extends IntFailable<F> {
+        private final F failValue;
+
+        private Failure(F failValue) {
+            assert(failValue!=null);
+
+            this.failValue = failValue;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public int getAsInt() {
+            throw new NoSuchElementException("This Failable did not succeed");
+        }
+
+        @Override
+        public F getFailure() {
+            return failValue;
+        }
+
+        @Override
+        public OptionalInt toOptionalInt() {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public OptionalInt toOptionalInt(Consumer<F> failureHandler) {
+            failureHandler.accept(failValue);
+
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public SimpleFailable<F> toSimpleFailable() {
+            return SimpleFailable.failure(failValue);
+        }
+
+        @Override
+        public Failable<Integer, F> boxed() {
+            return Failable.failure(failValue);
+        }
+
+        @Override
+        public IntFailable<F> mapSuccess(IntUnaryOperator converter) {
+            return this;
+        }
+
+        @Override
+        public <nF> IntFailable<nF> mapFailure(Function<F, nF> converter) {
+            return IntFailable.failure(converter.apply(failValue));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(this == other) {
+                return true;
+            }
+            if(!(other instanceof Failure<?>)) {
+                return false;
+            }
+
+            return failValue.equals(((Failure<?>) other).failValue);
+        }
+
+        @Override
+        public int hashCode() {
+            // complemented so a success and a failure holding equal values do not collide
+            return ~failValue.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "IntFailable.failure(" + failValue + ")";
+        }
+    }
+
+}
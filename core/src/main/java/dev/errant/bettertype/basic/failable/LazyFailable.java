@@ -0,0 +1,154 @@
+package dev.errant.bettertype.basic.failable;
+
+import dev.errant.bettertype.basic.absorber.AbsorbableSupplierAction;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A deferred absorb, holding the Failable an action will produce once it is first needed. It is not itself a Failable;
+ * {@link #get()} returns the outcome, and the inspection methods delegate to it. The action (and converter) are only
+ * run when the outcome is first inspected, so outcomes that turn out to be irrelevant never pay for the work.
+ *
+ * Once an absorb completes, the outcome is remembered and every later inspection, from any thread, sees the same
+ * Failable; from then on inspection is a single volatile read. If the converter throws, or the action throws an Error,
+ * nothing is remembered and the next inspection runs the action again, so the action runs exactly once only when
+ * absorbing it completes the first time.
+ *
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+public final class LazyFailable<S, F> {
+    /**
+     * Serialises the first absorb, kept private so callers locking on the LazyFailable cannot stall it
+     */
+    private final Object absorbLock = new Object();
+
+    private AbsorbableSupplierAction<S> action;
+    private ExceptionConverter<F> converter;
+
+    private volatile Failable<S, F> outcome;
+
+    private LazyFailable(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter) {
+        assert(action!=null);
+        assert(converter!=null);
+
+        this.action = action;
+        this.converter = converter;
+    }
+
+    /**
+     * As {@link Failable#absorb(AbsorbableSupplierAction)}, but deferred until the outcome is first inspected.
+     *
+     * @param action the action to perform
+     * @param <S> the success type (inferred from action)
+     * @return a lazy failable either with the success value or the caught exception
+     */
+    public static <S> LazyFailable<S, Exception> absorb(AbsorbableSupplierAction<S> action) {
+        return absorb(action, (value) -> value);
+    }
+
+    /**
+     * As {@link Failable#absorb(AbsorbableSupplierAction, ExceptionConverter)}, but deferred until the outcome is
+     * first inspected.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param <S> the success type (inferred from action)
+     * @param <F> the failable type (inferred from converter)
+     * @return a lazy failable either with the success value or the converted failure
+     */
+    public static <S, F> LazyFailable<S, F> absorb(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter) {
+        return new LazyFailable<>(action, converter);
+    }
+
+    /**
+     * Absorbs the action if that has not already happened.
+     *
+     * @return the outcome of the action
+     */
+    public Failable<S, F> get() {
+        Failable<S, F> result = outcome;
+        if(result != null) {
+            return result;
+        }
+
+        synchronized (absorbLock) {
+            result = outcome;
+            if(result == null) {
+                result = Failable.absorb(action, converter);
+                outcome = result;
+
+                // the outcome is fixed from here on, let whatever the action captured be collected
+                action = null;
+                converter = null;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @return true if the action has already been absorbed, inspecting this does not absorb it
+     */
+    public boolean isEvaluated() {
+        return outcome != null;
+    }
+
+    /**
+     * @return true if the action succeeded
+     */
+    public boolean isSuccess() {
+        return get().isSuccess();
+    }
+
+    /**
+     * @return true if the action failed
+     */
+    public boolean isFailure() {
+        return get().isFailure();
+    }
+
+    /**
+     * @return the success value
+     * @throws java.util.NoSuchElementException if the action failed
+     */
+    public S getSuccess() {
+        return get().getSuccess();
+    }
+
+    /**
+     * @return the failure value
+     * @throws java.util.NoSuchElementException if the action succeeded
+     */
+    public F getFailure() {
+        return get().getFailure();
+    }
+
+    /**
+     * @return an optional with the success value, or empty if the action failed
+     */
+    public Optional<S> toOptional() {
+        return get().toOptional();
+    }
+
+    /**
+     * @param converter a function to apply to the success value
+     * @param <nS> the new success type
+     * @return the outcome with the converter applied to a success value
+     */
+    public <nS> Failable<nS, F> mapSuccess(Function<S, nS> converter) {
+        return get().mapSuccess(converter);
+    }
+
+    /**
+     * @param converter a function to apply to the failure value
+     * @param <nF> the new failure type
+     * @return the outcome with the converter applied to a failure value
+     */
+    public <nF> Failable<S, nF> mapFailure(Function<F, nF> converter) {
+        return get().mapFailure(converter);
+    }
+
+}
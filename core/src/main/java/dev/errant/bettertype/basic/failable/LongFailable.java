@@ -0,0 +1,315 @@
+package dev.errant.bettertype.basic.failable;
+
+import dev.errant.bettertype.basic.absorber.AbsorbableLongSupplierAction;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A long specialization of {@link Failable}; either a successful long value, or a failure value of type F.
+ *
+ * The success value is held as a primitive, so creating, mapping and reading a successful LongFailable never boxes.
+ */
+abstract public class LongFailable<F> {
+
+    /**
+     * LongFailable is a closed hierarchy of exactly two implementations, Success and Failure. The private constructor
+     * prevents any other subclass.
+     */
+    private LongFailable() {
+    }
+
+    /**
+     * @return true if the outcome is successful, false otherwise
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * @return true if the outcome is failure, false otherwise
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * @return if successful, the value of the success
+     * @throws NoSuchElementException if the instance is a failure (check before calling)
+     */
+    public abstract long getAsLong();
+
+    /**
+     * @return if failure, the value of the failure
+     * @throws NoSuchElementException if the instance is successful (check before calling)
+     */
+    public abstract F getFailure();
+
+    /**
+     * Convert this LongFailable to an OptionalLong.
+     *
+     * @return an OptionalLong representing the success case (optionally present if success)
+     */
+    public abstract OptionalLong toOptionalLong();
+
+    /**
+     * Convert this LongFailable to an OptionalLong. If this LongFailable is a failure, the failureHandler is first called to
+     * handle the failure.
+     *
+     * @param failureHandler handles the failure value
+     * @return an OptionalLong representing the success case (optionally present if success)
+     */
+    public abstract OptionalLong toOptionalLong(Consumer<F> failureHandler);
+
+    /**
+     * Convert this LongFailable to a SimpleFailable.
+     *
+     * @return a SimpleFailable representing the failure case (discarding the success value)
+     */
+    public abstract SimpleFailable<F> toSimpleFailable();
+
+    /**
+     * Convert this LongFailable to a Failable, boxing the success value if present.
+     *
+     * @return an equivalent Failable
+     */
+    public abstract Failable<Long, F> boxed();
+
+    /**
+     * Convert this LongFailable to a new LongFailable, mapping the success value if present.
+     *
+     * @param converter converts the current success value to a new value
+     * @return an updated LongFailable with a mapped success value if present
+     */
+    public abstract LongFailable<F> mapSuccess(LongUnaryOperator converter);
+
+    /**
+     * Convert this LongFailable to a new LongFailable, mapping the failure value if present.
+     *
+     * @param converter converts the current failure value to a new value
+     * @param <nF> the type of the new failure value
+     * @return an updated LongFailable with a mapped failure value, if present
+     */
+    public abstract <nF> LongFailable<nF> mapFailure(Function<F, nF> converter);
+
+    /**
+     * @param successValue the success value
+     * @param <F> inferred failure type
+     * @return A LongFailable representing a success with a value
+     */
+    public static <F> LongFailable<F> success(long successValue) {
+        return new Success<F>(successValue);
+    }
+
+    /**
+     * @param failValue the non-null fail value
+     * @param <F> inferred failure type
+     * @return A LongFailable representing a failure with a value
+     */
+    public static <F> LongFailable<F> failure(F failValue) {
+        return new Failure<F>(failValue);
+    }
+
+    /**
+     * Runs the action function, returning the result as the "success" value of a LongFailable. If an exception is thrown
+     * the exception becomes the failure value.
+     *
+     * @param action the action to perform
+     * @return LongFailable either with the success value or the caught exception
+     */
+    public static LongFailable<Exception> absorb(AbsorbableLongSupplierAction action) {
+        return absorb(action, (value) -> value );
+    }
+
+    /**
+     * Runs the action function, returning the result as the "success" value of a LongFailable. If an exception is thrown
+     * the exception is passed to the converter, and the output of the converter becomes the failure value.
+     *
+     * A primitive can never be null, so the converter only receives NullValueAbsorbed when, as with Failable.absorb, it
+     * converted the exception thrown to null.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a Exception into a more useful type
+     * @param <F> the failable type (inferred from converter)
+     * @return A LongFailable containing either the Success or Failure value
+     */
+    public static <F> LongFailable<F> absorb(AbsorbableLongSupplierAction action, ExceptionConverter<F> converter) {
+        final long outcome;
+
+        try {
+            outcome = action.act();
+        } catch (Exception exception) {
+            return LongFailable.failure(converter.convertToFailure(exception));
+        }
+
+        return LongFailable.success(outcome);
+    }
+
+    private static final class Success<F> extends LongFailable<F> {
+        private final long successValue;
+
+        private Success(long successValue) {
+            this.successValue = successValue;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public long getAsLong() {
+            return successValue;
+        }
+
+        @Override
+        public F getFailure() {
+            throw new NoSuchElementException("This Failable value did not fail");
+        }
+
+        @Override
+        public OptionalLong toOptionalLong() {
+            return OptionalLong.of(successValue);
+        }
+
+        @Override
+        public OptionalLong toOptionalLong(Consumer<F> failureHandler) {
+            return OptionalLong.of(successValue);
+        }
+
+        @Override
+        public SimpleFailable<F> toSimpleFailable() {
+            return SimpleFailable.success();
+        }
+
+        @Override
+        public Failable<Long, F> boxed() {
+            return Failable.success(successValue);
+        }
+
+        @Override
+        public LongFailable<F> mapSuccess(LongUnaryOperator converter) {
+            return LongFailable.success(converter.applyAsLong(successValue));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <nF> LongFailable<nF> mapFailure(Function<F, nF> converter) {
+            // a Success never holds an F, so this instance is also a valid LongFailable<nF>
+            return (LongFailable<nF>) this;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(this == other) {
+                return true;
+            }
+            if(!(other instanceof Success<?>)) {
+                return false;
+            }
+
+            return successValue == ((Success<?>) other).successValue;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(successValue);
+        }
+
+        @Override
+        public String toString() {
+            return "LongFailable.success(" + successValue + ")";
+        }
+    }
+
+    private static final class Failure<F> extends LongFailable<F> {
+        private final F failValue;
+
+        private Failure(F failValue) {
+            assert(failValue!=null);
+
+            this.failValue = failValue;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public long getAsLong() {
+            throw new NoSuchElementException("This Failable did not succeed");
+        }
+
+        @Override
+        public F getFailure() {
+            return failValue;
+        }
+
+        @Override
+        public OptionalLong toOptionalLong() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public OptionalLong toOptionalLong(Consumer<F> failureHandler) {
+            failureHandler.accept(failValue);
+
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public SimpleFailable<F> toSimpleFailable() {
+            return SimpleFailable.failure(failValue);
+        }
+
+        @Override
+        public Failable<Long, F> boxed() {
+            return Failable.failure(failValue);
+        }
+
+        @Override
+        public LongFailable<F> mapSuccess(LongUnaryOperator converter) {
+            return this;
+        }
+
+        @Override
+        public <nF> LongFailable<nF> mapFailure(Function<F, nF> converter) {
+            return LongFailable.failure(converter.apply(failValue));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(this == other) {
+                return true;
+            }
+            if(!(other instanceof Failure<?>)) {
+                return false;
+            }
+
+            return failValue.equals(((Failure<?>) other).failValue);
+        }
+
+        @Override
+        public int hashCode() {
+            // complemented so a success and a failure holding equal values do not collide
+            return ~failValue.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "LongFailable.failure(" + failValue + ")";
+        }
+    }
+
+}
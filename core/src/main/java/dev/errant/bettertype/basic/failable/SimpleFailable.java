@@ -1,9 +1,20 @@
 package dev.errant.bettertype.basic.failable;
 
 import dev.errant.bettertype.basic.absorber.AbsorbableAction;
+import dev.errant.bettertype.basic.absorber.AbsorbableSupplierAction;
+import dev.errant.bettertype.basic.absorber.DeadlineExceededAbsorbed;
+import dev.errant.bettertype.basic.absorber.jfr.AbsorbEvent;
+import dev.errant.bettertype.basic.absorber.jfr.AbsorbEvents;
+import dev.errant.bettertype.basic.absorber.metrics.AbsorbRecorder;
+import dev.errant.bettertype.basic.absorber.metrics.AbsorbRecorders;
 import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
 
+import java.time.Duration;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 
 /**
@@ -13,46 +24,61 @@ import java.util.function.Function;
  *
  * The failure type F may be an Exception, but in some cases it may make sense for this to be another arbitrary object.
  * For example failing with an enumerated HTTP status, String or complex type.
+ *
+ * SimpleFailables compare by value; every success is equal, and two failures are equal when their failure values are.
  */
-final public class SimpleFailable<F> {
-    private final F failValue;
+abstract public class SimpleFailable<F> {
+    private static final SimpleFailable<?> SUCCESS = new Success<>();
+
+    /**
+     * One prebuilt failure per constant, indexed by ordinal, created the first time each enum class is used
+     */
+    private static final ClassValue<SimpleFailable<?>[]> ENUM_FAILURES = new ClassValue<SimpleFailable<?>[]>() {
+        @Override
+        protected SimpleFailable<?>[] computeValue(Class<?> enumType) {
+            Object[] constants = enumType.getEnumConstants();
+            SimpleFailable<?>[] failures = new SimpleFailable<?>[constants.length];
+
+            for(int i = 0; i < constants.length; i++) {
+                failures[i] = new Failure<>(constants[i]);
+            }
 
-    private SimpleFailable(F failValue) {
-        this.failValue = failValue;
+            return failures;
+        }
+    };
+
+    /**
+     * SimpleFailable is a closed hierarchy of exactly two implementations, Success (holding nothing) and Failure. The
+     * private constructor prevents any other subclass.
+     */
+    private SimpleFailable() {
     }
 
     /**
      * @return true if the outcome is successful, false otherwise
      */
-    public boolean isSuccess() {
-        return failValue == null;
-    }
+    public abstract boolean isSuccess();
 
     /**
      * @return true if the outcome is failure, false otherwise
      */
-    public boolean isFailure() {
-        return !isSuccess();
-    }
+    public abstract boolean isFailure();
 
     /**
      * @return if failed, the value of the failure
      * @throws NoSuchElementException if the instance is successful (check before calling)
      */
-    public F getFailure() {
-        if(isSuccess()) {
-            throw new NoSuchElementException("This Failable did not fail");
-        }
-
-        return this.failValue;
-    }
+    public abstract F getFailure();
 
     /**
+     * A success carries no value, so a single shared instance is returned for every failure type.
+     *
      * @param <F> the inferred type of the failure
      * @return A SimpleFailable representing a success with no value
      */
+    @SuppressWarnings("unchecked")
     public static <F> SimpleFailable<F> success() {
-        return new SimpleFailable<F>(null);
+        return (SimpleFailable<F>) SUCCESS;
     }
 
     /**
@@ -60,8 +86,20 @@ final public class SimpleFailable<F> {
      * @return A SimpleFailable representing a failure with a value
      */
     public static <F> SimpleFailable<F> failure(F failValue) {
-        assert(failValue!=null);
-        return new SimpleFailable<F>(failValue);
+        return new Failure<F>(failValue);
+    }
+
+    /**
+     * A failure for an enumerated reason. The failure for each constant is built once (the first time its enum is used)
+     * and shared, so returning an enumerated failure does not allocate.
+     *
+     * @param failValue the non-null enumerated fail value
+     * @param <E> the inferred enum type of the failure
+     * @return A SimpleFailable representing a failure with a value
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> SimpleFailable<E> enumFailure(E failValue) {
+        return (SimpleFailable<E>) ENUM_FAILURES.get(failValue.getDeclaringClass())[failValue.ordinal()];
     }
 
     /**
@@ -71,18 +109,7 @@ final public class SimpleFailable<F> {
      * @param <nF> the type of the new failure value
      * @return an update SimpleFailable with a mapped failure value, if present
      */
-    public <nF> SimpleFailable<nF> mapFailure(Function<F, nF> converter) {
-        final SimpleFailable<nF> result;
-
-        if(isFailure()) {
-            nF convertedFailure = converter.apply(getFailure());
-            result = SimpleFailable.failure(convertedFailure);
-        } else {
-            result = SimpleFailable.success();
-        }
-
-        return result;
-    }
+    public abstract <nF> SimpleFailable<nF> mapFailure(Function<F, nF> converter);
 
     /**
      * Runs the action function, returning the result as the "success" value of a failable. If an exception is thrown,
@@ -105,18 +132,258 @@ final public class SimpleFailable<F> {
      * @return A Failable containing either the Success or Failure value
      */
     public static <F> SimpleFailable<F> absorb(AbsorbableAction action, ExceptionConverter<F> converter) {
-        F failure = null;
+        if(AbsorbEvents.isEnabled()) {
+            return absorbObserved(null, AbsorbRecorders.noop(), action, converter);
+        }
+
+        Exception exception = null;
 
         try {
             action.act();
-        } catch (Exception exception) {
-            failure = converter.convert(exception);
+        } catch (Exception caught) {
+            exception = caught;
+        }
+
+        return outcomeOf(exception, converter);
+    }
+
+    /**
+     * As {@link #absorb(AbsorbableAction)}, also reporting the outcome to the installed {@link AbsorbRecorder} under
+     * the given call site name.
+     *
+     * @param site names the call site in the recorded metrics, not null
+     * @param action the action to perform
+     * @return A SimpleFailable of either success or failure with the value of the absorbed exception
+     */
+    public static SimpleFailable<Exception> absorb(String site, AbsorbableAction action) {
+        return absorb(site, action, (value) -> value);
+    }
+
+    /**
+     * As {@link #absorb(AbsorbableAction, ExceptionConverter)}, also reporting the outcome, exception type and time
+     * taken by the action to the installed {@link AbsorbRecorder} under the given call site name. When no recorder is
+     * installed this is a plain absorb.
+     *
+     * @param site names the call site in the recorded metrics, not null
+     * @param action the action to perform
+     * @param converter a converter to transform a exception into a more useful type
+     * @param <F> the failable type (inferred from converter)
+     * @return A SimpleFailable of either success or the converted failure
+     * @throws NullPointerException if site is null, whether or not anything is observing
+     */
+    public static <F> SimpleFailable<F> absorb(String site, AbsorbableAction action, ExceptionConverter<F> converter) {
+        Objects.requireNonNull(site, "site");
+        AbsorbRecorder recorder = AbsorbRecorders.installed();
+        if(recorder == AbsorbRecorders.noop() && !AbsorbEvents.isEnabled()) {
+            return absorb(action, converter);
         }
 
+        return absorbObserved(site, recorder, action, converter);
+    }
+
+    /**
+     * Turns what an action threw into a SimpleFailable, shared by every absorb so that observing an absorb never changes
+     * its result. A converter answering null for the exception thrown makes the outcome a success.
+     */
+    private static <F> SimpleFailable<F> outcomeOf(Exception exception, ExceptionConverter<F> converter) {
+        F failure = exception == null ? null : converter.convert(exception);
+
         if(failure==null) {
             return SimpleFailable.success();
+        }
+        return SimpleFailable.failure(failure);
+    }
+
+    /**
+     * The absorb used when anything is observing it, reporting to the recorder and emitting Flight Recorder events
+     */
+    private static <F> SimpleFailable<F> absorbObserved(String site, AbsorbRecorder recorder, AbsorbableAction action, ExceptionConverter<F> converter) {
+        AbsorbEvent event = AbsorbEvents.isEnabled() ? AbsorbEvents.begin() : null;
+
+        Exception exception = null;
+
+        long started = System.nanoTime();
+        try {
+            action.act();
+        } catch (Exception caught) {
+            exception = caught;
+        }
+        long elapsed = System.nanoTime() - started;
+
+        SimpleFailable<F> result = outcomeOf(exception, converter);
+        if(result.isSuccess()) {
+            recorder.record(site, true, null, elapsed);
         } else {
-            return SimpleFailable.failure(failure);
+            recorder.record(site, false, exception.getClass(), elapsed);
+            if(event != null) {
+                AbsorbEvents.failure(site, exception, result.getFailure());
+            }
+        }
+
+        if(event != null) {
+            AbsorbEvents.end(event, site, result.isSuccess());
+        }
+        return result;
+    }
+
+    /**
+     * As {@link #absorb(AbsorbableAction)}, but the action is run on the given executor rather than the calling thread.
+     *
+     * @param action the action to perform
+     * @param executor runs the action
+     * @return a future completed with a SimpleFailable of either success or failure with the value of the absorbed exception
+     */
+    public static CompletableFuture<SimpleFailable<Exception>> absorbAsync(AbsorbableAction action, Executor executor) {
+        return absorbAsync(action, (value) -> value, executor);
+    }
+
+    /**
+     * As {@link #absorb(AbsorbableAction, ExceptionConverter)}, but the action is run on the given executor rather than
+     * the calling thread. Any exception thrown by the action is passed to the converter on the executor's thread.
+     *
+     * The future never completes exceptionally because of the action. If the executor rejects the action the
+     * RejectedExecutionException is converted (on the calling thread) into the failure value. Only an exception thrown
+     * by the converter itself completes the future exceptionally.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a exception into a more useful type
+     * @param executor runs the action
+     * @param <F> the failable type (inferred from converter)
+     * @return a future completed with a SimpleFailable of either success or the converted failure
+     */
+    public static <F> CompletableFuture<SimpleFailable<F>> absorbAsync(AbsorbableAction action, ExceptionConverter<F> converter, Executor executor) {
+        CompletableFuture<SimpleFailable<F>> result = new CompletableFuture<>();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(absorb(action, converter));
+                } catch (Throwable converterFailure) {
+                    result.completeExceptionally(converterFailure);
+                }
+            });
+        } catch (RejectedExecutionException rejected) {
+            result.complete(SimpleFailable.failure(converter.convert(rejected)));
+        }
+
+        return result;
+    }
+
+    /**
+     * As {@link #absorb(AbsorbableAction)}, but the action is run on the given executor and given at most timeout to
+     * finish.
+     *
+     * @param action the action to perform
+     * @param timeout how long to wait for the action
+     * @param executor runs the action
+     * @return SimpleFailable of either success or failure with the value of the absorbed exception
+     */
+    public static SimpleFailable<Exception> absorb(AbsorbableAction action, Duration timeout, Executor executor) {
+        return absorb(action, (value) -> value, timeout, executor);
+    }
+
+    /**
+     * As {@link #absorb(AbsorbableAction, ExceptionConverter)}, but the action is run on the given executor and given
+     * at most timeout to finish. The calling thread waits for the outcome.
+     *
+     * If the deadline passes the action is cancelled, interrupting the thread running it, and the shared
+     * {@link DeadlineExceededAbsorbed} marker is passed to the converter. As with
+     * {@link Failable#absorb(AbsorbableSupplierAction, ExceptionConverter, Duration, Executor)} a rejection or an
+     * interruption of the calling thread is converted into the failure value instead.
+     *
+     * @param action the action to perform
+     * @param converter a converter to transform a exception into a more useful type
+     * @param timeout how long to wait for the action
+     * @param executor runs the action
+     * @param <F> the failable type (inferred from converter)
+     * @return SimpleFailable of either success or the converted failure
+     */
+    public static <F> SimpleFailable<F> absorb(AbsorbableAction action, ExceptionConverter<F> converter, Duration timeout, Executor executor) {
+        return Deadline.await(
+                () -> absorb(action, converter),
+                timeout,
+                executor,
+                (exception) -> SimpleFailable.failure(converter.convert(exception))
+        );
+    }
+
+    private static final class Success<F> extends SimpleFailable<F> {
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public F getFailure() {
+            throw new NoSuchElementException("This Failable did not fail");
+        }
+
+        @Override
+        public <nF> SimpleFailable<nF> mapFailure(Function<F, nF> converter) {
+            return SimpleFailable.success();
+        }
+
+        @Override
+        public String toString() {
+            return "SimpleFailable.success()";
+        }
+    }
+
+    private static final class Failure<F> extends SimpleFailable<F> {
+        private final F failValue;
+
+        private Failure(F failValue) {
+            assert(failValue!=null);
+
+            this.failValue = failValue;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public F getFailure() {
+            return failValue;
+        }
+
+        @Override
+        public <nF> SimpleFailable<nF> mapFailure(Function<F, nF> converter) {
+            return SimpleFailable.failure(converter.apply(failValue));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if(this == other) {
+                return true;
+            }
+            if(!(other instanceof Failure<?>)) {
+                return false;
+            }
+
+            return failValue.equals(((Failure<?>) other).failValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return failValue.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "SimpleFailable.failure(" + failValue + ")";
         }
     }
 }
@@ -0,0 +1,60 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Absorbs blocking actions on virtual threads, one per action, without sizing a thread pool.
+ *
+ * This is the Java 21 version of the class, loaded from the multi-release jar. Every action runs on a new virtual
+ * thread. The public API matches the version for earlier Java versions, which runs actions on the calling thread.
+ */
+public final class VirtualThreadAbsorber {
+    private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("bettertype-absorb-", 0).factory();
+
+    private static final Executor VIRTUAL_THREAD_PER_ACTION = (task) -> VIRTUAL_THREADS.newThread(task).start();
+
+    private VirtualThreadAbsorber() {
+    }
+
+    public static boolean isVirtual() {
+        return true;
+    }
+
+    public static <S, F> CompletableFuture<Failable<S, F>> absorb(AbsorbableSupplierAction<S> action, ExceptionConverter<F> converter) {
+        return Failable.absorbAsync(action, converter, VIRTUAL_THREAD_PER_ACTION);
+    }
+
+    public static <F> CompletableFuture<SimpleFailable<F>> absorbSimple(AbsorbableAction action, ExceptionConverter<F> converter) {
+        return SimpleFailable.absorbAsync(action, converter, VIRTUAL_THREAD_PER_ACTION);
+    }
+
+    public static <S, F> List<Failable<S, F>> absorbAll(Collection<? extends AbsorbableSupplierAction<S>> actions, ExceptionConverter<F> converter) {
+        List<CompletableFuture<Failable<S, F>>> pending = new ArrayList<>(actions.size());
+
+        // close() waits for every action to finish
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(VIRTUAL_THREADS)) {
+            for(AbsorbableSupplierAction<S> action : actions) {
+                pending.add(Failable.absorbAsync(action, converter, executor));
+            }
+        }
+
+        List<Failable<S, F>> results = new ArrayList<>(pending.size());
+        for(CompletableFuture<Failable<S, F>> outcome : pending) {
+            results.add(outcome.join());
+        }
+
+        return results;
+    }
+
+}
@@ -0,0 +1,205 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+    private static final ExceptionConverter<String> CONVERTER =
+            (exception) -> exception instanceof BulkheadRejectionAbsorbed ? "rejected" : exception.getClass().getSimpleName();
+
+    private ExecutorService executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Occupies a permit of the bulkhead until release is counted down
+     */
+    private Future<Failable<String, String>> occupy(Bulkhead bulkhead) throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        Future<Failable<String, String>> future = executor.submit(() -> bulkhead.absorb(() -> {
+            running.countDown();
+            release.await();
+            return "slow egg";
+        }, CONVERTER));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        return future;
+    }
+
+    private void awaitWaiting(Bulkhead bulkhead, int waiting) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(bulkhead.getWaitingCalls() < waiting) {
+            if(System.nanoTime() - deadline > 0) {
+                fail("expected " + waiting + " waiting callers within 5 seconds, saw " + bulkhead.getWaitingCalls());
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    @DisplayName("actions within the limit run, and give their permit back")
+    public void withinLimit() {
+        //given
+        Bulkhead bulkhead = Bulkhead.of("coop", BulkheadConfig.of(2));
+
+        //when
+        Failable<String, String> success = bulkhead.absorb(() -> "egg", CONVERTER);
+        SimpleFailable<String> simple = bulkhead.absorbSimple(() -> {}, CONVERTER);
+
+        //then
+        assertEquals("egg", success.getSuccess());
+        assertTrue(simple.isSuccess());
+        assertEquals(2, bulkhead.getAvailablePermits());
+        assertEquals("coop", bulkhead.getName());
+    }
+
+    @Test
+    @DisplayName("a full bulkhead without a wait rejects straight away with the marker")
+    public void rejectsWhenFull() throws Exception {
+        //given
+        Bulkhead bulkhead = Bulkhead.of("coop", BulkheadConfig.of(1));
+        occupy(bulkhead);
+
+        //when
+        Failable<String, String> rejected = bulkhead.absorb(() -> "egg", CONVERTER);
+        SimpleFailable<String> rejectedSimple = bulkhead.absorbSimple(() -> {}, CONVERTER);
+
+        //then
+        assertEquals("rejected", rejected.getFailure());
+        assertEquals("rejected", rejectedSimple.getFailure());
+        assertEquals(2, bulkhead.getRejectedCalls());
+    }
+
+    @Test
+    @DisplayName("a waiting caller runs once a permit is given back")
+    public void waitsForPermit() throws Exception {
+        //given
+        Bulkhead bulkhead = Bulkhead.of("coop", BulkheadConfig.of(1).withMaxWait(Duration.ofSeconds(5)));
+        Future<Failable<String, String>> occupying = occupy(bulkhead);
+        Future<Failable<String, String>> waiter = executor.submit(() -> bulkhead.absorb(() -> "egg", CONVERTER));
+        awaitWaiting(bulkhead, 1);
+
+        //when
+        release.countDown();
+
+        //then
+        assertEquals("slow egg", occupying.get(5, TimeUnit.SECONDS).getSuccess());
+        assertEquals("egg", waiter.get(5, TimeUnit.SECONDS).getSuccess());
+        assertEquals(0, bulkhead.getWaitingCalls());
+        assertEquals(0, bulkhead.getRejectedCalls());
+    }
+
+    @Test
+    @DisplayName("a caller is rejected once the maximum wait passes")
+    public void waitTimesOut() throws Exception {
+        //given
+        Bulkhead bulkhead = Bulkhead.of("coop", BulkheadConfig.of(1).withMaxWait(Duration.ofMillis(10)));
+        occupy(bulkhead);
+
+        //when
+        Failable<String, String> rejected = bulkhead.absorb(() -> "egg", CONVERTER);
+
+        //then
+        assertEquals("rejected", rejected.getFailure());
+        assertEquals(0, bulkhead.getWaitingCalls());
+    }
+
+    @Test
+    @DisplayName("callers beyond the maximum waiting are rejected without waiting")
+    public void boundedWaiting() throws Exception {
+        //given
+        Bulkhead bulkhead = Bulkhead.of("coop",
+                BulkheadConfig.of(1).withMaxWait(Duration.ofSeconds(5)).withMaxWaiting(1));
+        occupy(bulkhead);
+        Future<Failable<String, String>> waiter = executor.submit(() -> bulkhead.absorb(() -> "egg", CONVERTER));
+        awaitWaiting(bulkhead, 1);
+
+        //when
+        Failable<String, String> rejected = bulkhead.absorb(() -> "egg", CONVERTER);
+
+        //then
+        assertEquals("rejected", rejected.getFailure());
+        release.countDown();
+        assertEquals("egg", waiter.get(5, TimeUnit.SECONDS).getSuccess());
+    }
+
+    @Test
+    @DisplayName("an interrupted waiter converts the InterruptedException and keeps its interrupt status")
+    public void interruptedWhileWaiting() throws Exception {
+        //given
+        Bulkhead bulkhead = Bulkhead.of("coop", BulkheadConfig.of(1).withMaxWait(Duration.ofSeconds(5)));
+        occupy(bulkhead);
+        AtomicReference<Failable<String, String>> outcome = new AtomicReference<>();
+        AtomicBoolean stillInterrupted = new AtomicBoolean();
+        Thread waiter = new Thread(() -> {
+            outcome.set(bulkhead.absorb(() -> "egg", CONVERTER));
+            stillInterrupted.set(Thread.currentThread().isInterrupted());
+        });
+        waiter.start();
+        awaitWaiting(bulkhead, 1);
+
+        //when
+        waiter.interrupt();
+        waiter.join(5000);
+
+        //then
+        assertEquals("InterruptedException", outcome.get().getFailure());
+        assertTrue(stillInterrupted.get());
+        assertEquals(0, bulkhead.getWaitingCalls());
+        assertEquals(0, bulkhead.getRejectedCalls());
+    }
+
+    @Test
+    @DisplayName("the permit is given back when the action throws an Error")
+    public void releasesOnError() {
+        //given
+        Bulkhead bulkhead = Bulkhead.of("coop", BulkheadConfig.of(1));
+
+        //when
+        assertThrows(AssertionError.class, () -> bulkhead.absorb(() -> {
+            throw new AssertionError("coop on fire");
+        }, CONVERTER));
+
+        //then
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("invalid configurations are rejected")
+    public void invalidConfig() {
+        //given
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> BulkheadConfig.of(0));
+        assertThrows(IllegalArgumentException.class, () -> BulkheadConfig.of(1).withMaxWait(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> BulkheadConfig.of(1).withMaxWaiting(-1));
+    }
+
+}
@@ -0,0 +1,303 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private AtomicLong clock;
+    private CircuitBreaker breaker;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new AtomicLong();
+        calls = new AtomicInteger();
+        breaker = CircuitBreaker.of(CircuitBreakerConfig.of(0.5, 4, OPEN_DURATION).withClock(clock::get));
+    }
+
+    private Failable<String, String> succeed() {
+        return breaker.absorb(() -> {
+            calls.incrementAndGet();
+            return "egg";
+        }, Exception::getMessage);
+    }
+
+    private Failable<String, String> fail() {
+        return breaker.absorb(() -> {
+            calls.incrementAndGet();
+            throw new IOException("coop unreachable");
+        }, Exception::getMessage);
+    }
+
+    @Test
+    @DisplayName("a closed circuit runs every action")
+    public void closed() {
+        //given
+
+        //when
+        Failable<String, String> success = succeed();
+        Failable<String, String> failure = fail();
+
+        //then
+        assertEquals("egg", success.getSuccess());
+        assertEquals("coop unreachable", failure.getFailure());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(2, breaker.getBufferedCalls());
+        assertEquals(1, breaker.getFailedCalls());
+        assertEquals(0.5, breaker.getFailureRate());
+    }
+
+    @Test
+    @DisplayName("the circuit opens once the failure rate over a full window reaches the threshold")
+    public void opens() {
+        //given
+        succeed();
+        succeed();
+        fail();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        //when
+        fail();
+
+        //then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("older outcomes drop out of the window")
+    public void slidingWindow() {
+        //given
+        fail();
+        succeed();
+        succeed();
+        succeed();
+
+        //when
+        succeed();
+
+        //then
+        assertEquals(4, breaker.getBufferedCalls());
+        assertEquals(0, breaker.getFailedCalls());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("an open circuit fails fast without running the action")
+    public void failFast() {
+        //given
+        for(int i = 0; i < 4; i++) {
+            fail();
+        }
+        calls.set(0);
+
+        //when
+        Failable<String, Exception> outcome = breaker.absorb(() -> {
+            calls.incrementAndGet();
+            return "egg";
+        }, (exception) -> exception);
+
+        //then
+        assertSame(CircuitOpenAbsorbed.instance(), outcome.getFailure());
+        assertEquals(0, calls.get());
+        assertEquals(1, breaker.getNotPermittedCalls());
+    }
+
+    @Test
+    @DisplayName("a successful probe after the open duration closes the circuit")
+    public void recovers() {
+        //given
+        for(int i = 0; i < 4; i++) {
+            fail();
+        }
+
+        //when
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        Failable<String, String> probe = succeed();
+
+        //then
+        assertEquals("egg", probe.getSuccess());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getBufferedCalls());
+    }
+
+    @Test
+    @DisplayName("a failed probe opens the circuit again")
+    public void probeFails() {
+        //given
+        for(int i = 0; i < 4; i++) {
+            fail();
+        }
+        clock.addAndGet(OPEN_DURATION.toNanos());
+
+        //when
+        fail();
+
+        //then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        clock.addAndGet(OPEN_DURATION.toNanos() - 1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("only the configured number of probes are let through when half open")
+    public void probesLimited() throws Exception {
+        //given
+        breaker = CircuitBreaker.of(CircuitBreakerConfig.of(1.0, 1, OPEN_DURATION).withHalfOpenProbes(2).withClock(clock::get));
+        fail();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        calls.set(0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch release = new CountDownLatch(1);
+
+        //when
+        List<Future<Failable<String, String>>> outcomes = new ArrayList<>();
+        for(int i = 0; i < 8; i++) {
+            outcomes.add(executor.submit(() -> breaker.absorb(() -> {
+                calls.incrementAndGet();
+                // hold the probes until every other call has been turned away
+                release.await();
+                return "egg";
+            }, Exception::getMessage)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(breaker.getNotPermittedCalls() < 6) {
+            if(System.nanoTime() - deadline > 0) {
+                // qualified, as fail() is this test's failing call
+                Assertions.fail("expected 6 calls turned away within 5 seconds, saw " + breaker.getNotPermittedCalls());
+            }
+            Thread.sleep(1);
+        }
+        release.countDown();
+        for(Future<Failable<String, String>> outcome : outcomes) {
+            outcome.get();
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(2, calls.get());
+        assertEquals(6, breaker.getNotPermittedCalls());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("a probe that does not report back within the open duration opens the circuit again")
+    public void hungProbe() throws Exception {
+        //given
+        breaker = CircuitBreaker.of(CircuitBreakerConfig.of(1.0, 1, OPEN_DURATION).withClock(clock::get));
+        fail();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch probing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Failable<String, String>> hung = executor.submit(() -> breaker.absorb(() -> {
+            probing.countDown();
+            release.await();
+            return "late egg";
+        }, Exception::getMessage));
+        assertTrue(probing.await(5, TimeUnit.SECONDS));
+
+        //when
+        Failable<String, String> whileProbing = succeed();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        Failable<String, String> afterTimeout = succeed();
+        release.countDown();
+        hung.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        assertEquals(CircuitOpenAbsorbed.instance().getMessage(), whileProbing.getFailure());
+        assertEquals(CircuitOpenAbsorbed.instance().getMessage(), afterTimeout.getFailure());
+        // the late success belongs to the timed out half open phase and is ignored
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        assertEquals("egg", succeed().getSuccess());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("the failure rate is not acted on before the minimum number of calls")
+    public void minimumCalls() {
+        //given
+        breaker = CircuitBreaker.of(CircuitBreakerConfig.of(0.5, 10, OPEN_DURATION).withMinimumCalls(3).withClock(clock::get));
+
+        //when
+        fail();
+        fail();
+
+        //then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        fail();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("SimpleFailable actions are guarded too")
+    public void simpleFailable() {
+        //given
+        for(int i = 0; i < 4; i++) {
+            breaker.absorbSimple(() -> {
+                throw new IOException("coop unreachable");
+            }, Exception::getMessage);
+        }
+
+        //when
+        SimpleFailable<String> outcome = breaker.absorbSimple(() -> calls.incrementAndGet(), Exception::getMessage);
+
+        //then
+        assertEquals(new CircuitOpenAbsorbed().getMessage(), outcome.getFailure());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    @DisplayName("a throwing converter counts as a failure")
+    public void converterThrows() {
+        //given
+        breaker = CircuitBreaker.of(CircuitBreakerConfig.of(1.0, 1, OPEN_DURATION).withClock(clock::get));
+
+        //when
+        assertThrows(IllegalStateException.class, () -> breaker.absorb(() -> {
+            throw new IOException("coop unreachable");
+        }, (exception) -> {
+            throw new IllegalStateException("converter broke");
+        }));
+
+        //then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("configuration arguments are checked")
+    public void invalidConfig() {
+        //given
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.of(0, 10, OPEN_DURATION));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.of(0.5, 0, OPEN_DURATION));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.of(0.5, 10, Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.of(0.5, 10, OPEN_DURATION).withMinimumCalls(11));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.of(0.5, 10, OPEN_DURATION).withHalfOpenProbes(0));
+    }
+
+}
@@ -0,0 +1,35 @@
+package dev.errant.bettertype.basic.absorber;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationsTest {
+
+    @Test
+    @DisplayName("durations that fit are converted exactly")
+    public void exact() {
+        //given
+
+        //when
+        //then
+        assertEquals(0, Durations.saturatedNanos(Duration.ZERO));
+        assertEquals(1_500_000, Durations.saturatedNanos(Duration.ofNanos(1_500_000)));
+        assertEquals(Duration.ofDays(365).toNanos(), Durations.saturatedNanos(Duration.ofDays(365)));
+    }
+
+    @Test
+    @DisplayName("durations too long to count in nanoseconds saturate to forever")
+    public void saturated() {
+        //given
+        Duration tooLong = Duration.ofSeconds(Long.MAX_VALUE);
+
+        //when
+        //then
+        assertEquals(Long.MAX_VALUE, Durations.saturatedNanos(tooLong));
+    }
+
+}
@@ -0,0 +1,64 @@
+package dev.errant.bettertype.basic.absorber;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NullValueAbsorbedTest {
+
+    @Test
+    @DisplayName("the shared instance is always the same")
+    public void sharedInstance() {
+        //given
+
+        //when
+        NullValueAbsorbed first = NullValueAbsorbed.instance();
+        NullValueAbsorbed second = NullValueAbsorbed.instance();
+
+        //then
+        assertSame(first, second);
+        assertEquals("a null return value was absorbed", first.getMessage());
+    }
+
+    @Test
+    @DisplayName("the shared instance has no stack trace")
+    public void sharedInstanceStackless() {
+        //given
+        NullValueAbsorbed marker = NullValueAbsorbed.instance();
+
+        //when
+        marker.fillInStackTrace();
+
+        //then
+        assertEquals(0, marker.getStackTrace().length);
+    }
+
+    @Test
+    @DisplayName("the shared instance cannot be altered by converters")
+    public void sharedInstanceImmutable() {
+        //given
+        NullValueAbsorbed marker = NullValueAbsorbed.instance();
+
+        //when
+        marker.addSuppressed(new Exception("suppressed"));
+
+        //then
+        assertEquals(0, marker.getSuppressed().length);
+        assertThrows(IllegalStateException.class, () -> marker.initCause(new Exception("cause")));
+    }
+
+    @Test
+    @DisplayName("constructed instances still record a stack trace")
+    public void constructedInstanceHasStackTrace() {
+        //given
+
+        //when
+        NullValueAbsorbed marker = new NullValueAbsorbed();
+
+        //then
+        assertNotSame(NullValueAbsorbed.instance(), marker);
+        assertTrue(marker.getStackTrace().length > 0);
+    }
+
+}
@@ -0,0 +1,140 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.failable.Failable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelAbsorberTest {
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("absorb many actions, keeping input order and partitioning the outcomes")
+    public void absorbAll() {
+        //given
+        List<AbsorbableSupplierAction<Integer>> actions = new ArrayList<>();
+        for(int i = 0; i < 1000; i++) {
+            int chicken = i;
+            actions.add(() -> {
+                if(chicken % 100 == 0) {
+                    throw new Exception("fox got chicken " + chicken);
+                }
+                return chicken;
+            });
+        }
+
+        //when
+        BulkAbsorbResult<Integer, String> result = ParallelAbsorber.absorbAll(actions, Exception::getMessage, pool);
+
+        //then
+        assertEquals(1000, result.size());
+        assertEquals("fox got chicken 0", result.getOutcomes().get(0).getFailure());
+        assertEquals(1, result.getOutcomes().get(1).getSuccess());
+        assertEquals(990, result.getSuccesses().size());
+        assertEquals(1, result.getSuccesses().get(0));
+        assertEquals(999, result.getSuccesses().get(989));
+        assertEquals(10, result.getFailures().size());
+        assertEquals("fox got chicken 900", result.getFailures().get(9));
+        assertArrayEquals(new int[]{0, 100, 200, 300, 400, 500, 600, 700, 800, 900}, result.getFailureIndices());
+        assertFalse(result.isAllSuccess());
+    }
+
+    @Test
+    @DisplayName("apply a function to many inputs")
+    public void absorbEach() {
+        //given
+        List<String> inputs = List.of("1", "2", "three", "4");
+
+        //when
+        BulkAbsorbResult<Integer, String> result = ParallelAbsorber.absorbEach(inputs, Integer::parseInt,
+                (exception) -> exception.getClass().getSimpleName(), pool);
+
+        //then
+        assertEquals(List.of(1, 2, 4), result.getSuccesses());
+        assertEquals(List.of("NumberFormatException"), result.getFailures());
+        assertArrayEquals(new int[]{2}, result.getFailureIndices());
+    }
+
+    @Test
+    @DisplayName("null results are absorbed as failures")
+    public void absorbNull() {
+        //given
+        List<AbsorbableSupplierAction<String>> actions = List.of(() -> "egg", () -> null);
+
+        //when
+        BulkAbsorbResult<String, Exception> result = ParallelAbsorber.absorbAll(actions, (exception) -> exception, pool);
+
+        //then
+        assertEquals(List.of("egg"), result.getSuccesses());
+        assertSame(NullValueAbsorbed.instance(), result.getFailures().get(0));
+    }
+
+    @Test
+    @DisplayName("work is spread over the pool's threads")
+    public void usesPoolThreads() {
+        //given
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> inputs = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+
+        //when
+        BulkAbsorbResult<Integer, Exception> result = ParallelAbsorber.absorbEach(inputs, (input) -> {
+            threads.add(Thread.currentThread().getName());
+            Thread.sleep(1);
+            return input;
+        }, (exception) -> exception, pool);
+
+        //then
+        assertTrue(result.isAllSuccess());
+        assertEquals(inputs, result.getSuccesses());
+        assertTrue(threads.size() > 1, "expected several threads but only saw " + threads);
+    }
+
+    @Test
+    @DisplayName("no actions gives an empty result")
+    public void absorbNothing() {
+        //given
+
+        //when
+        BulkAbsorbResult<Object, Exception> result = ParallelAbsorber.absorbAll(Collections.emptyList(), (exception) -> exception);
+
+        //then
+        assertEquals(0, result.size());
+        assertTrue(result.isAllSuccess());
+        assertEquals(0, result.getFailureIndices().length);
+    }
+
+    @Test
+    @DisplayName("the outcomes cannot be modified")
+    public void outcomesUnmodifiable() {
+        //given
+        BulkAbsorbResult<String, Exception> result = ParallelAbsorber.absorbAll(List.of(() -> "egg"), (exception) -> exception, pool);
+
+        //when
+        //then
+        assertThrows(UnsupportedOperationException.class, () -> result.getOutcomes().add(Failable.success("chick")));
+        assertThrows(UnsupportedOperationException.class, () -> result.getSuccesses().clear());
+    }
+
+}
@@ -0,0 +1,267 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryingAbsorberTest {
+    private static final RetryPolicy<String> QUICK_POLICY = RetryPolicy.<String>of(3)
+            .withBackoff(Duration.ofMillis(10), 2.0, Duration.ofMillis(50));
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("a transient failure is retried until it succeeds")
+    public void retryUntilSuccess() throws Exception {
+        //given
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        CompletableFuture<Failable<String, RetriedFailure<String>>> result = RetryingAbsorber.absorb(() -> {
+            if(attempts.incrementAndGet() < 3) {
+                throw new IOException("coop door jammed");
+            }
+            return "door open";
+        }, Exception::getMessage, QUICK_POLICY, scheduler);
+
+        //then
+        assertEquals("door open", result.get(5, TimeUnit.SECONDS).getSuccess());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("the final failure carries the attempt count and elapsed time")
+    public void attemptsExhausted() throws Exception {
+        //given
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        CompletableFuture<Failable<String, RetriedFailure<String>>> result = RetryingAbsorber.absorb(() -> {
+            throw new IOException("fox " + attempts.incrementAndGet());
+        }, Exception::getMessage, QUICK_POLICY.withJitter(0), scheduler);
+
+        //then
+        RetriedFailure<String> failure = result.get(5, TimeUnit.SECONDS).getFailure();
+        assertEquals("fox 3", failure.getFailure());
+        assertEquals(3, failure.getAttempts());
+        assertEquals(3, attempts.get());
+        // waits of 10ms and 20ms without jitter
+        assertTrue(failure.getElapsed().toMillis() >= 30, "elapsed " + failure.getElapsed());
+    }
+
+    @Test
+    @DisplayName("failures the predicate rejects are not retried")
+    public void notRetryable() throws Exception {
+        //given
+        AtomicInteger attempts = new AtomicInteger();
+        RetryPolicy<String> policy = QUICK_POLICY.withRetryIf((exception, failure) -> exception instanceof IOException);
+
+        //when
+        CompletableFuture<Failable<String, RetriedFailure<String>>> result = RetryingAbsorber.absorb(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("not a chicken");
+        }, Exception::getMessage, policy, scheduler);
+
+        //then
+        RetriedFailure<String> failure = result.get(5, TimeUnit.SECONDS).getFailure();
+        assertEquals("not a chicken", failure.getFailure());
+        assertEquals(1, failure.getAttempts());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("an exception converted to null is converted as NullValueAbsorbed, as Failable.absorb does")
+    public void exceptionConvertedToNull() throws Exception {
+        //given
+        ExceptionConverter<String> nullConverting =
+                (exception) -> exception instanceof NullValueAbsorbed ? "no value" : null;
+
+        //when
+        CompletableFuture<Failable<String, RetriedFailure<String>>> result = RetryingAbsorber.absorb(() -> {
+            throw new IOException("fox");
+        }, nullConverting, QUICK_POLICY, scheduler);
+
+        //then
+        RetriedFailure<String> failure = result.get(5, TimeUnit.SECONDS).getFailure();
+        assertEquals("no value", failure.getFailure());
+        assertEquals(3, failure.getAttempts());
+    }
+
+    @Test
+    @DisplayName("null values are absorbed as failures and can be retried")
+    public void nullValue() throws Exception {
+        //given
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        CompletableFuture<Failable<String, RetriedFailure<Exception>>> result = RetryingAbsorber.absorb(
+                () -> attempts.incrementAndGet() < 2 ? null : "egg",
+                (exception) -> exception,
+                RetryPolicy.<Exception>of(2).withBackoff(Duration.ZERO, 1.0, Duration.ZERO),
+                scheduler);
+
+        //then
+        assertEquals("egg", result.get(5, TimeUnit.SECONDS).getSuccess());
+    }
+
+    @Test
+    @DisplayName("attempts run on the given executor")
+    public void separateExecutor() throws Exception {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor((runnable) -> new Thread(runnable, "chicken-worker"));
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        CompletableFuture<Failable<String, RetriedFailure<String>>> result = RetryingAbsorber.absorb(() -> {
+            if(attempts.incrementAndGet() < 2) {
+                throw new IOException("coop door jammed");
+            }
+            return Thread.currentThread().getName();
+        }, Exception::getMessage, QUICK_POLICY, scheduler, executor);
+
+        //then
+        assertEquals("chicken-worker", result.get(5, TimeUnit.SECONDS).getSuccess());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("a rejected attempt becomes the final failure")
+    public void rejected() throws Exception {
+        //given
+        scheduler.shutdown();
+
+        //when
+        CompletableFuture<Failable<String, RetriedFailure<String>>> result = RetryingAbsorber.absorb(
+                () -> "egg", (exception) -> exception.getClass().getSimpleName(), QUICK_POLICY, scheduler);
+
+        //then
+        RetriedFailure<String> failure = result.get(5, TimeUnit.SECONDS).getFailure();
+        assertEquals("RejectedExecutionException", failure.getFailure());
+        assertEquals(0, failure.getAttempts());
+    }
+
+    @Test
+    @DisplayName("a throwing converter completes the future exceptionally")
+    public void converterThrows() {
+        //given
+
+        //when
+        CompletableFuture<Failable<String, RetriedFailure<String>>> result = RetryingAbsorber.absorb(() -> {
+            throw new IOException("coop door jammed");
+        }, (exception) -> {
+            throw new IllegalStateException("converter broke");
+        }, QUICK_POLICY, scheduler);
+
+        //then
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertTrue(thrown.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    @DisplayName("an Error thrown by the action completes the future exceptionally")
+    public void actionThrowsError() {
+        //given
+
+        //when
+        CompletableFuture<Failable<String, RetriedFailure<String>>> result = RetryingAbsorber.absorb(() -> {
+            throw new AssertionError("coop on fire");
+        }, Exception::getMessage, QUICK_POLICY, scheduler);
+
+        //then
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertTrue(thrown.getCause() instanceof AssertionError);
+    }
+
+    @Test
+    @DisplayName("cancelling the future cancels the pending retry")
+    public void cancelStopsRetries() throws Exception {
+        //given
+        AtomicInteger attempts = new AtomicInteger();
+        ScheduledThreadPoolExecutor waits = new ScheduledThreadPoolExecutor(1);
+        RetryPolicy<String> slowPolicy = RetryPolicy.<String>of(5)
+                .withBackoff(Duration.ofMinutes(10), 1.0, Duration.ofMinutes(10));
+        CompletableFuture<Failable<String, RetriedFailure<String>>> result = RetryingAbsorber.absorb(() -> {
+            attempts.incrementAndGet();
+            throw new IOException("coop door jammed");
+        }, Exception::getMessage, slowPolicy, waits);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        // the first attempt has left the queue once it has run, so a queued task is the retry
+        while(attempts.get() == 0 || waits.getQueue().isEmpty()) {
+            if(System.nanoTime() - deadline > 0) {
+                fail("the retry was never scheduled");
+            }
+            Thread.sleep(1);
+        }
+
+        //when
+        result.cancel(false);
+
+        //then
+        // the retry can be queued just before it is kept as the pending wait, in which case keeping it cancels it
+        while(!waits.getQueue().stream().allMatch((task) -> ((ScheduledFuture<?>) task).isCancelled())) {
+            if(System.nanoTime() - deadline > 0) {
+                fail("the pending retry was never cancelled");
+            }
+            Thread.sleep(1);
+        }
+        assertEquals(1, attempts.get());
+        waits.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("policy arguments are checked")
+    public void invalidPolicy() {
+        //given
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.of(0));
+        assertThrows(IllegalArgumentException.class, () -> QUICK_POLICY.withJitter(1.5));
+        assertThrows(IllegalArgumentException.class, () -> QUICK_POLICY.withBackoff(Duration.ofSeconds(1), 0.5, Duration.ofSeconds(2)));
+        assertThrows(IllegalArgumentException.class, () -> QUICK_POLICY.withBackoff(Duration.ofSeconds(2), 2.0, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("waits grow exponentially up to the maximum")
+    public void backoff() {
+        //given
+        RetryPolicy<String> policy = RetryPolicy.<String>of(10)
+                .withBackoff(Duration.ofMillis(100), 2.0, Duration.ofMillis(500))
+                .withJitter(0);
+
+        //when
+        //then
+        assertEquals(Duration.ofMillis(100).toNanos(), policy.delayNanos(1));
+        assertEquals(Duration.ofMillis(200).toNanos(), policy.delayNanos(2));
+        assertEquals(Duration.ofMillis(400).toNanos(), policy.delayNanos(3));
+        assertEquals(Duration.ofMillis(500).toNanos(), policy.delayNanos(4));
+    }
+
+}
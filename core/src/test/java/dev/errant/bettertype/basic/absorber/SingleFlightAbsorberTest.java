@@ -0,0 +1,176 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.failable.Failable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightAbsorberTest {
+    private static final int CALLERS = 8;
+
+    private SingleFlightAbsorber<String, String, String> absorber;
+    private ExecutorService executor;
+    private AtomicInteger runs;
+
+    @BeforeEach
+    public void setUp() {
+        absorber = SingleFlightAbsorber.of(Exception::getMessage);
+        executor = Executors.newFixedThreadPool(CALLERS);
+        runs = new AtomicInteger();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts CALLERS concurrent absorbs of the key, the first of which blocks until release is counted down, and
+     * returns once every other caller is waiting on it
+     */
+    private List<Future<Failable<String, String>>> stampede(AbsorbableSupplierAction<String> action,
+                                                             CountDownLatch release) throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        List<Future<Failable<String, String>>> futures = new ArrayList<>();
+
+        futures.add(executor.submit(() -> absorber.absorb("coop", () -> {
+            runs.incrementAndGet();
+            running.countDown();
+            release.await();
+            return action.act();
+        })));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        for(int i = 1; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> absorber.absorb("coop", () -> {
+                runs.incrementAndGet();
+                return action.act();
+            })));
+        }
+        awaitCoalesced(CALLERS - 1);
+
+        return futures;
+    }
+
+    private void awaitCoalesced(long coalesced) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(absorber.getCoalescedCount() < coalesced) {
+            if(System.nanoTime() - deadline > 0) {
+                fail("expected " + coalesced + " coalesced callers within 5 seconds, saw " + absorber.getCoalescedCount());
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent callers for a key share one execution and its Failable")
+    public void coalesces() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Failable<String, String>>> futures = stampede(() -> "egg", release);
+
+        //when
+        release.countDown();
+
+        //then
+        Failable<String, String> first = futures.get(0).get(5, TimeUnit.SECONDS);
+        for(Future<Failable<String, String>> future : futures) {
+            assertSame(first, future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals("egg", first.getSuccess());
+        assertEquals(1, runs.get());
+        assertEquals(0, absorber.getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("waiting callers receive the absorbed failure of the shared execution")
+    public void sharedFailure() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Failable<String, String>>> futures = stampede(() -> {
+            throw new IOException("coop unreachable");
+        }, release);
+
+        //when
+        release.countDown();
+
+        //then
+        for(Future<Failable<String, String>> future : futures) {
+            assertEquals("coop unreachable", future.get(5, TimeUnit.SECONDS).getFailure());
+        }
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("calls after an execution completes run the action again")
+    public void notMemoized() {
+        //given
+        absorber.absorb("coop", () -> "egg " + runs.incrementAndGet());
+
+        //when
+        Failable<String, String> second = absorber.absorb("coop", () -> "egg " + runs.incrementAndGet());
+
+        //then
+        assertEquals("egg 2", second.getSuccess());
+        assertEquals(0, absorber.getInFlightCount());
+        assertEquals(0, absorber.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("a call for the same key from inside the action runs directly rather than waiting on itself")
+    public void reentrant() {
+        //given
+
+        //when
+        Failable<String, String> outer = absorber.absorb("coop",
+                () -> absorber.absorb("coop", () -> "inner egg").getSuccess() + " then outer egg");
+
+        //then
+        assertEquals("inner egg then outer egg", outer.getSuccess());
+        assertEquals(0, absorber.getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("onOutcome is called once, before waiting callers are released")
+    public void onOutcome() throws Exception {
+        //given
+        AtomicInteger published = new AtomicInteger();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Failable<String, String>> leader = executor.submit(() -> absorber.absorb("coop", () -> {
+            running.countDown();
+            release.await();
+            return "egg";
+        }, (outcome) -> published.incrementAndGet()));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        Future<Integer> follower = executor.submit(() -> {
+            absorber.absorb("coop", () -> "other egg", (outcome) -> published.incrementAndGet());
+            return published.get();
+        });
+        awaitCoalesced(1);
+
+        //when
+        release.countDown();
+
+        //then
+        assertEquals("egg", leader.get(5, TimeUnit.SECONDS).getSuccess());
+        assertEquals(1, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, published.get());
+    }
+
+}
@@ -0,0 +1,127 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.failable.Failable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaleIfErrorAbsorberTest {
+    private static final Duration MAX_STALENESS = Duration.ofMinutes(5);
+
+    private AtomicLong clock;
+    private StaleIfErrorAbsorber<String, String, String> absorber;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new AtomicLong();
+        absorber = StaleIfErrorAbsorber.of(Exception::getMessage, MAX_STALENESS, clock::get);
+    }
+
+    private Failable<MaybeStale<String, String>, String> succeed(String key, String value) {
+        return absorber.absorb(key, () -> value);
+    }
+
+    private Failable<MaybeStale<String, String>, String> fail(String key) {
+        return absorber.absorb(key, () -> {
+            throw new IOException(key + " unreachable");
+        });
+    }
+
+    @Test
+    @DisplayName("a successful absorb is served fresh")
+    public void fresh() {
+        //given
+
+        //when
+        Failable<MaybeStale<String, String>, String> outcome = succeed("coop", "egg");
+
+        //then
+        assertEquals("egg", outcome.getSuccess().getValue());
+        assertFalse(outcome.getSuccess().isStale());
+        assertEquals(Duration.ZERO, outcome.getSuccess().getAge());
+        assertEquals(Optional.empty(), outcome.getSuccess().getFailure());
+    }
+
+    @Test
+    @DisplayName("a failing absorb serves the last success with its age and the converted failure")
+    public void stale() {
+        //given
+        succeed("coop", "old egg");
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        //when
+        Failable<MaybeStale<String, String>, String> outcome = fail("coop");
+
+        //then
+        assertTrue(outcome.isSuccess());
+        assertEquals("old egg", outcome.getSuccess().getValue());
+        assertTrue(outcome.getSuccess().isStale());
+        assertEquals(Duration.ofMinutes(2), outcome.getSuccess().getAge());
+        assertEquals(Optional.of("coop unreachable"), outcome.getSuccess().getFailure());
+        assertEquals(1, absorber.getStaleServedCount());
+    }
+
+    @Test
+    @DisplayName("a success older than the maximum staleness is not served")
+    public void tooStale() {
+        //given
+        succeed("coop", "old egg");
+        clock.addAndGet(MAX_STALENESS.plusNanos(1).toNanos());
+
+        //when
+        Failable<MaybeStale<String, String>, String> outcome = fail("coop");
+
+        //then
+        assertEquals("coop unreachable", outcome.getFailure());
+        assertEquals(0, absorber.getStaleServedCount());
+    }
+
+    @Test
+    @DisplayName("a failure with no earlier success for the key is returned")
+    public void noEarlierSuccess() {
+        //given
+        succeed("barn", "barn egg");
+
+        //when
+        Failable<MaybeStale<String, String>, String> outcome = fail("coop");
+
+        //then
+        assertEquals("coop unreachable", outcome.getFailure());
+    }
+
+    @Test
+    @DisplayName("a newer success replaces the one served, and forget stops serving it")
+    public void replaceAndForget() {
+        //given
+        succeed("coop", "old egg");
+        succeed("coop", "new egg");
+
+        //when
+        Failable<MaybeStale<String, String>, String> replaced = fail("coop");
+        absorber.forget("coop");
+        Failable<MaybeStale<String, String>, String> forgotten = fail("coop");
+
+        //then
+        assertEquals("new egg", replaced.getSuccess().getValue());
+        assertTrue(forgotten.isFailure());
+    }
+
+    @Test
+    @DisplayName("a negative maximum staleness is rejected")
+    public void invalidStaleness() {
+        //given
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class,
+                () -> StaleIfErrorAbsorber.of(Exception::getMessage, Duration.ofSeconds(-1)));
+    }
+
+}
@@ -0,0 +1,86 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against whichever version of VirtualThreadAbsorber the test JVM loads, so only covers behaviour shared by both.
+ */
+class VirtualThreadAbsorberTest {
+
+    @Test
+    @DisplayName("absorb the success of an action")
+    public void absorbSuccess() throws Exception {
+        //given
+
+        //when
+        Failable<String, Exception> absorb = VirtualThreadAbsorber.<String, Exception>absorb(() -> "chickens", (e) -> e)
+                .get(5, TimeUnit.SECONDS);
+
+        //then
+        assertEquals("chickens", absorb.getSuccess());
+    }
+
+    @Test
+    @DisplayName("absorb the exception of an action and convert it")
+    public void absorbExceptionConverted() throws Exception {
+        //given
+
+        //when
+        SimpleFailable<String> absorb = VirtualThreadAbsorber.absorbSimple(() -> {
+            throw new Exception("bang");
+        }, Exception::getMessage).get(5, TimeUnit.SECONDS);
+
+        //then
+        assertEquals("bang", absorb.getFailure());
+    }
+
+    @Test
+    @DisplayName("absorb many actions, keeping their order")
+    public void absorbAllKeepsOrder() {
+        //given
+        List<AbsorbableSupplierAction<Integer>> actions = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            int chicken = i;
+            actions.add(() -> {
+                if(chicken % 10 == 0) {
+                    throw new Exception("fox got chicken " + chicken);
+                }
+                return chicken;
+            });
+        }
+
+        //when
+        List<Failable<Integer, String>> results = VirtualThreadAbsorber.absorbAll(actions, Exception::getMessage);
+
+        //then
+        assertEquals(100, results.size());
+        assertEquals("fox got chicken 0", results.get(0).getFailure());
+        assertEquals(1, results.get(1).getSuccess());
+        assertEquals("fox got chicken 90", results.get(90).getFailure());
+        assertEquals(99, results.get(99).getSuccess());
+    }
+
+    @Test
+    @DisplayName("without virtual threads actions run on the calling thread")
+    public void callingThreadWithoutVirtualThreads() throws Exception {
+        //given
+        Thread caller = Thread.currentThread();
+
+        //when
+        Failable<Thread, Exception> absorb = VirtualThreadAbsorber.<Thread, Exception>absorb(Thread::currentThread, (e) -> e)
+                .get(5, TimeUnit.SECONDS);
+
+        //then
+        assertEquals(!VirtualThreadAbsorber.isVirtual(), caller == absorb.getSuccess());
+    }
+
+}
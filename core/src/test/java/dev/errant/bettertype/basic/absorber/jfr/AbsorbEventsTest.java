@@ -0,0 +1,95 @@
+package dev.errant.bettertype.basic.absorber.jfr;
+
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AbsorbEventsTest {
+
+    @TempDir
+    Path directory;
+
+    private List<RecordedEvent> record(Runnable absorbs, String... eventNames) throws IOException {
+        Path file = directory.resolve("absorb.jfr");
+        try(Recording recording = new Recording()) {
+            for(String eventName : eventNames) {
+                recording.enable(eventName);
+            }
+            recording.start();
+            absorbs.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("dev.errant.bettertype"))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("a duration event for every absorb and a failure event for every conversion")
+    public void events() throws Exception {
+        //given
+
+        //when
+        List<RecordedEvent> events = record(() -> {
+            Failable.absorb(() -> "egg");
+            Failable.absorb(() -> {
+                throw new IOException("coop door stuck");
+            }, Exception::getMessage);
+            SimpleFailable.absorb("coop.close", () -> {
+                throw new IllegalStateException("fox in the way");
+            });
+        }, AbsorbEvent.NAME, AbsorbFailureEvent.NAME);
+
+        //then
+        List<RecordedEvent> absorbs = named(events, AbsorbEvent.NAME);
+        assertEquals(3, absorbs.size());
+        assertTrue(absorbs.get(0).getBoolean("success"));
+        assertFalse(absorbs.get(1).getBoolean("success"));
+        assertEquals("coop.close", absorbs.get(2).getString("site"));
+
+        List<RecordedEvent> failures = named(events, AbsorbFailureEvent.NAME);
+        assertEquals(2, failures.size());
+        assertEquals(IOException.class.getName(), failures.get(0).<RecordedClass>getValue("exceptionClass").getName());
+        assertEquals("coop door stuck", failures.get(0).getString("failure"));
+        assertNull(failures.get(0).getString("site"));
+        assertEquals(IllegalStateException.class.getName(), failures.get(1).<RecordedClass>getValue("exceptionClass").getName());
+        assertEquals("coop.close", failures.get(1).getString("site"));
+    }
+
+    @Test
+    @DisplayName("events are disabled by default")
+    public void disabledByDefault() throws Exception {
+        //given
+
+        //when
+        List<RecordedEvent> events = record(() -> Failable.absorb(() -> {
+            throw new IOException("coop door stuck");
+        }));
+
+        //then
+        assertTrue(events.isEmpty());
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,81 @@
+package dev.errant.bettertype.basic.absorber.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("small values are recorded exactly")
+    public void exactSmallValues() {
+        //given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        //when
+        for(int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        //then
+        assertEquals(10, snapshot.getCount());
+        assertEquals(5.5, snapshot.getMeanNanos());
+        assertEquals(5, snapshot.getValueAtPercentile(50));
+        assertEquals(9, snapshot.getValueAtPercentile(90));
+        assertEquals(10, snapshot.getMaxNanos());
+    }
+
+    @Test
+    @DisplayName("large values are within 1/16th")
+    public void relativeError() {
+        //given
+        long[] values = {17, 100, 1_000, 12_345, 1_000_000, 987_654_321, Long.MAX_VALUE / 3};
+
+        for(long value : values) {
+            LatencyHistogram histogram = new LatencyHistogram();
+
+            //when
+            histogram.record(value);
+            long reported = histogram.snapshot().getMaxNanos();
+
+            //then
+            assertTrue(reported >= value, value + " reported as " + reported);
+            assertTrue(reported - value <= value / 16, value + " reported as " + reported);
+        }
+    }
+
+    @Test
+    @DisplayName("buckets cover every long without gaps")
+    public void bucketsContiguous() {
+        //given
+
+        //when
+        //then
+        assertEquals(0, LatencyHistogram.bucketOf(0));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBoundOf(LatencyHistogram.BUCKETS - 1));
+        for(int bucket = 0; bucket < LatencyHistogram.BUCKETS - 1; bucket++) {
+            long upper = LatencyHistogram.upperBoundOf(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(upper));
+            assertEquals(bucket + 1, LatencyHistogram.bucketOf(upper + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("an empty snapshot")
+    public void empty() {
+        //given
+        LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+
+        //when
+        //then
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0.0, snapshot.getMeanNanos());
+        assertEquals(0, snapshot.getValueAtPercentile(99));
+        assertEquals(0, snapshot.getMaxNanos());
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(101));
+    }
+
+}
@@ -0,0 +1,168 @@
+package dev.errant.bettertype.basic.absorber.metrics;
+
+import dev.errant.bettertype.basic.absorber.AbsorbableAction;
+import dev.errant.bettertype.basic.absorber.AbsorbableSupplierAction;
+import dev.errant.bettertype.basic.absorber.NullValueAbsorbed;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongAdderAbsorbRecorderTest {
+    private LongAdderAbsorbRecorder recorder;
+
+    @BeforeEach
+    public void setUp() {
+        recorder = new LongAdderAbsorbRecorder();
+        AbsorbRecorders.install(recorder);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        AbsorbRecorders.uninstall();
+    }
+
+    @Test
+    @DisplayName("site named Failable absorbs are recorded")
+    public void failableSites() {
+        //given
+
+        //when
+        Failable<String, Exception> success = Failable.absorb("coop.read", () -> "egg");
+        Failable<String, String> failure = Failable.absorb("coop.read", () -> {
+            throw new IOException("coop door stuck");
+        }, Exception::getMessage);
+        Failable.absorb("coop.read", () -> null);
+
+        //then
+        assertEquals("egg", success.getSuccess());
+        assertEquals("coop door stuck", failure.getFailure());
+        SiteSnapshot snapshot = recorder.snapshot("coop.read");
+        assertEquals(1, snapshot.getSuccessCount());
+        assertEquals(2, snapshot.getFailureCount());
+        assertEquals(Map.of(IOException.class, 1L, NullValueAbsorbed.class, 1L), snapshot.getFailuresByType());
+        assertEquals(3, snapshot.getLatency().getCount());
+    }
+
+    @Test
+    @DisplayName("a null site is rejected before the action runs, with or without a recorder installed")
+    public void nullSite() {
+        //given
+        AbsorbableSupplierAction<String> supplier = () -> fail("the action must not run");
+        AbsorbableAction action = () -> fail("the action must not run");
+
+        //when
+        //then
+        assertThrows(NullPointerException.class, () -> Failable.absorb(null, supplier));
+        assertThrows(NullPointerException.class, () -> SimpleFailable.absorb(null, action));
+        AbsorbRecorders.uninstall();
+        assertThrows(NullPointerException.class, () -> Failable.absorb(null, supplier, Exception::getMessage));
+        assertThrows(NullPointerException.class, () -> SimpleFailable.absorb(null, action, Exception::getMessage));
+    }
+
+    @Test
+    @DisplayName("site named SimpleFailable absorbs are recorded")
+    public void simpleFailableSites() {
+        //given
+
+        //when
+        SimpleFailable<Exception> success = SimpleFailable.absorb("coop.close", () -> {});
+        SimpleFailable<Exception> failure = SimpleFailable.absorb("coop.close", () -> {
+            throw new IllegalStateException("fox in the way");
+        });
+
+        //then
+        assertTrue(success.isSuccess());
+        assertEquals(IllegalStateException.class, failure.getFailure().getClass());
+        SiteSnapshot snapshot = recorder.snapshot("coop.close");
+        assertEquals(1, snapshot.getSuccessCount());
+        assertEquals(1, snapshot.getFailureCount());
+        assertEquals(Map.of(IllegalStateException.class, 1L), snapshot.getFailuresByType());
+    }
+
+    @Test
+    @DisplayName("recording does not change the outcome when the converter answers null")
+    public void nullConversionsUnchanged() {
+        //given
+        AbsorbableSupplierAction<String> failingRead = () -> {
+            throw new IOException("coop door stuck");
+        };
+        AbsorbableAction failingClose = () -> {
+            throw new IOException("coop door stuck");
+        };
+        ExceptionConverter<String> ignoringIo = (exception) -> exception instanceof IOException ? null : "no egg";
+
+        //when
+        Failable<String, String> observed = Failable.absorb("coop.read", failingRead, ignoringIo);
+        SimpleFailable<String> observedSimple = SimpleFailable.absorb("coop.close", failingClose, ignoringIo);
+        AbsorbRecorders.uninstall();
+        Failable<String, String> plain = Failable.absorb(failingRead, ignoringIo);
+        SimpleFailable<String> plainSimple = SimpleFailable.absorb(failingClose, ignoringIo);
+
+        //then
+        assertEquals(plain, observed);
+        assertEquals("no egg", observed.getFailure());
+        assertEquals(plainSimple, observedSimple);
+        assertTrue(observedSimple.isSuccess());
+        assertEquals(1, recorder.snapshot("coop.read").getFailureCount());
+        assertEquals(1, recorder.snapshot("coop.close").getSuccessCount());
+    }
+
+    @Test
+    @DisplayName("sites are recorded separately")
+    public void separateSites() {
+        //given
+
+        //when
+        Failable.absorb("coop.read", () -> "egg");
+        Failable.absorb("coop.count", () -> 12);
+        Failable.absorb("coop.count", () -> 13);
+
+        //then
+        Map<String, SiteSnapshot> snapshots = recorder.snapshot();
+        assertEquals(2, snapshots.size());
+        assertEquals(1, snapshots.get("coop.read").getSuccessCount());
+        assertEquals(2, snapshots.get("coop.count").getSuccessCount());
+        assertNull(recorder.snapshot("coop.unknown"));
+    }
+
+    @Test
+    @DisplayName("recording from many threads loses nothing")
+    public void concurrentRecording() {
+        //given
+
+        //when
+        IntStream.range(0, 100_000).parallel().forEach((i) -> recorder.record("coop.read", i % 10 != 0, i % 10 != 0 ? null : IOException.class, i));
+
+        //then
+        SiteSnapshot snapshot = recorder.snapshot("coop.read");
+        assertEquals(90_000, snapshot.getSuccessCount());
+        assertEquals(10_000, snapshot.getFailureCount());
+        assertEquals(10_000L, snapshot.getFailuresByType().get(IOException.class));
+        assertEquals(100_000, snapshot.getLatency().getCount());
+    }
+
+    @Test
+    @DisplayName("nothing is recorded once uninstalled")
+    public void uninstalled() {
+        //given
+        AbsorbRecorders.uninstall();
+
+        //when
+        Failable.absorb("coop.read", () -> "egg");
+
+        //then
+        assertSame(AbsorbRecorders.noop(), AbsorbRecorders.installed());
+        assertNull(recorder.snapshot("coop.read"));
+    }
+
+}
@@ -0,0 +1,274 @@
+package dev.errant.bettertype.basic.cache;
+
+import dev.errant.bettertype.basic.failable.Failable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FailableCacheTest {
+    private static final Duration SUCCESS_TTL = Duration.ofMinutes(10);
+    private static final Duration FAILURE_TTL = Duration.ofSeconds(5);
+
+    private AtomicLong clock;
+    private AtomicInteger loads;
+    private FailableCache<String, String, String> cache;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new AtomicLong();
+        loads = new AtomicInteger();
+        cache = FailableCache.of(Exception::getMessage,
+                FailableCacheConfig.of(100, SUCCESS_TTL, FAILURE_TTL).withClock(clock::get));
+    }
+
+    private Failable<String, String> hatch(String key) {
+        return cache.get(key, () -> {
+            loads.incrementAndGet();
+            return key + " chick";
+        });
+    }
+
+    private Failable<String, String> fail(String key) {
+        return cache.get(key, () -> {
+            loads.incrementAndGet();
+            throw new IOException(key + " unreachable");
+        });
+    }
+
+    @Test
+    @DisplayName("a second lookup of a key is answered without loading")
+    public void hit() {
+        //given
+        Failable<String, String> first = hatch("coop");
+
+        //when
+        Failable<String, String> second = hatch("coop");
+
+        //then
+        assertEquals("coop chick", second.getSuccess());
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().getHitCount());
+        assertEquals(1, cache.stats().getMissCount());
+        assertEquals(1, cache.stats().getLoadSuccessCount());
+    }
+
+    @Test
+    @DisplayName("failures are cached until the failure time to live passes")
+    public void negativeCaching() {
+        //given
+        fail("coop");
+
+        //when
+        Failable<String, String> cached = fail("coop");
+        clock.addAndGet(FAILURE_TTL.toNanos());
+        Failable<String, String> reloaded = fail("coop");
+
+        //then
+        assertEquals("coop unreachable", cached.getFailure());
+        assertEquals("coop unreachable", reloaded.getFailure());
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.stats().getLoadFailureCount());
+    }
+
+    @Test
+    @DisplayName("successes outlive the failure time to live, until the success time to live passes")
+    public void successTtl() {
+        //given
+        hatch("coop");
+
+        //when
+        clock.addAndGet(FAILURE_TTL.toNanos());
+        hatch("coop");
+        clock.addAndGet(SUCCESS_TTL.toNanos());
+        hatch("coop");
+
+        //then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("a zero failure time to live does not keep failures")
+    public void noNegativeCaching() {
+        //given
+        cache = FailableCache.of(Exception::getMessage,
+                FailableCacheConfig.of(100, SUCCESS_TTL, Duration.ZERO).withClock(clock::get));
+
+        //when
+        fail("coop");
+        fail("coop");
+
+        //then
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("entries only read once are evicted before entries read again")
+    public void segmentedLru() {
+        //given
+        cache = FailableCache.of(Exception::getMessage,
+                FailableCacheConfig.of(5, SUCCESS_TTL, FAILURE_TTL).withSegments(1).withClock(clock::get));
+        hatch("favourite");
+        hatch("favourite");
+
+        //when
+        for(int i = 0; i < 20; i++) {
+            hatch("scan" + i);
+        }
+
+        //then
+        assertEquals(5, cache.size());
+        assertTrue(cache.getIfPresent("favourite").isPresent());
+        assertFalse(cache.getIfPresent("scan0").isPresent());
+        assertEquals(16, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("the cache never holds more than its maximum size")
+    public void bounded() {
+        //given
+        cache = FailableCache.of(Exception::getMessage,
+                FailableCacheConfig.of(50, SUCCESS_TTL, FAILURE_TTL).withClock(clock::get));
+
+        //when
+        for(int i = 0; i < 1000; i++) {
+            hatch("chicken" + i);
+        }
+
+        //then
+        assertTrue(cache.size() <= 50);
+        assertEquals(1000 - cache.size(), cache.stats().getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("put, invalidate and invalidateAll")
+    public void putAndInvalidate() {
+        //given
+        cache.put("coop", Failable.success("given chick"));
+        cache.put("barn", Failable.failure("barn locked"));
+
+        //when
+        Optional<Failable<String, String>> coop = cache.getIfPresent("coop");
+        Optional<Failable<String, String>> barn = cache.getIfPresent("barn");
+        cache.invalidate("coop");
+        Optional<Failable<String, String>> invalidated = cache.getIfPresent("coop");
+        cache.invalidateAll();
+
+        //then
+        assertEquals(Optional.of(Failable.success("given chick")), coop);
+        assertEquals(Optional.of(Failable.failure("barn locked")), barn);
+        assertFalse(invalidated.isPresent());
+        assertEquals(0, cache.size());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @DisplayName("concurrent lookups stay within the maximum size and count every lookup")
+    public void concurrent() throws Exception {
+        //given
+        cache = FailableCache.of(Exception::getMessage, FailableCacheConfig.of(64, SUCCESS_TTL, FAILURE_TTL));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for(int t = 0; t < 4; t++) {
+            futures.add(executor.submit(() -> {
+                for(int i = 0; i < 10_000; i++) {
+                    String key = "chicken" + (i % 100);
+                    assertEquals(key + " chick", hatch(key).getSuccess());
+                }
+            }));
+        }
+        for(Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        assertTrue(cache.size() <= 64);
+        FailableCacheStats stats = cache.stats();
+        assertEquals(40_000, stats.getHitCount() + stats.getMissCount());
+        assertTrue(stats.getLoadSuccessCount() <= stats.getMissCount());
+    }
+
+    @Test
+    @DisplayName("concurrent misses on one key share a single load")
+    public void stampede() throws Exception {
+        //given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Failable<String, String>> results = new CopyOnWriteArrayList<>();
+
+        Thread loader = new Thread(() -> results.add(cache.get("coop", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "coop chick";
+        })));
+        loader.start();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        //when
+        List<Thread> waiters = new ArrayList<>();
+        for(int t = 0; t < 3; t++) {
+            Thread waiter = new Thread(() -> results.add(hatch("coop")));
+            waiter.start();
+            waiters.add(waiter);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for(Thread waiter : waiters) {
+            // parked waiting for the running load
+            while(waiter.getState() != Thread.State.WAITING) {
+                if(System.nanoTime() - deadline > 0) {
+                    Assertions.fail("a waiter never parked on the running load, it is " + waiter.getState());
+                }
+                Thread.sleep(1);
+            }
+        }
+        release.countDown();
+        loader.join(5000);
+        for(Thread waiter : waiters) {
+            waiter.join(5000);
+        }
+
+        //then
+        assertEquals(4, results.size());
+        for(Failable<String, String> result : results) {
+            assertEquals("coop chick", result.getSuccess());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().getLoadSuccessCount());
+    }
+
+    @Test
+    @DisplayName("invalid configurations are rejected")
+    public void invalidConfig() {
+        //given
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> FailableCacheConfig.of(0, SUCCESS_TTL, FAILURE_TTL));
+        assertThrows(IllegalArgumentException.class, () -> FailableCacheConfig.of(10, SUCCESS_TTL, Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> FailableCacheConfig.of(10, SUCCESS_TTL, FAILURE_TTL).withSegments(3));
+        assertThrows(IllegalArgumentException.class, () -> FailableCacheConfig.of(10, SUCCESS_TTL, FAILURE_TTL).withSegments(16));
+    }
+
+}
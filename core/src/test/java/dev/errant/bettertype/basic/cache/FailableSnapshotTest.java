@@ -0,0 +1,211 @@
+package dev.errant.bettertype.basic.cache;
+
+import dev.errant.bettertype.basic.absorber.AbsorbableSupplierAction;
+import dev.errant.bettertype.basic.cache.FailableSnapshot.FailurePolicy;
+import dev.errant.bettertype.basic.failable.Failable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FailableSnapshotTest {
+    /**
+     * Long enough that no scheduled refresh runs during a test, refreshes are triggered by hand
+     */
+    private static final Duration MANUAL = Duration.ofHours(1);
+
+    private ScheduledExecutorService scheduler;
+    private AtomicInteger polls;
+    private AtomicBoolean reachable;
+    private AbsorbableSupplierAction<String> pollCoop;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        polls = new AtomicInteger();
+        reachable = new AtomicBoolean(true);
+        pollCoop = () -> {
+            int poll = polls.incrementAndGet();
+            if(!reachable.get()) {
+                throw new IOException("coop unreachable");
+            }
+            return "config " + poll;
+        };
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private void awaitRefreshes(FailableSnapshot<?, ?> snapshot, long refreshes) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(snapshot.getRefreshCount() < refreshes) {
+            if(System.nanoTime() - deadline > 0) {
+                fail("expected " + refreshes + " refreshes within 5 seconds, saw " + snapshot.getRefreshCount());
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    @DisplayName("the first refresh runs on start, so there is always an outcome")
+    public void firstRefresh() {
+        //given
+
+        //when
+        try(FailableSnapshot<String, String> snapshot = FailableSnapshot.start(pollCoop, Exception::getMessage,
+                FailurePolicy.PUBLISH_FAILURE, MANUAL, scheduler)) {
+
+            //then
+            assertEquals("config 1", snapshot.get().getSuccess());
+            assertEquals(1, snapshot.getRefreshCount());
+            assertFalse(snapshot.getLastRefreshLatency().isNegative());
+        }
+    }
+
+    @Test
+    @DisplayName("PUBLISH_FAILURE replaces the last success with a failed refresh")
+    public void publishFailure() {
+        //given
+        try(FailableSnapshot<String, String> snapshot = FailableSnapshot.start(pollCoop, Exception::getMessage,
+                FailurePolicy.PUBLISH_FAILURE, MANUAL, scheduler)) {
+            reachable.set(false);
+
+            //when
+            snapshot.refresh();
+
+            //then
+            assertEquals("coop unreachable", snapshot.get().getFailure());
+            assertEquals(1, snapshot.getFailureStreak());
+        }
+    }
+
+    @Test
+    @DisplayName("KEEP_LAST_SUCCESS keeps serving the last success, counting the failure streak")
+    public void keepLastSuccess() {
+        //given
+        try(FailableSnapshot<String, String> snapshot = FailableSnapshot.start(pollCoop, Exception::getMessage,
+                FailurePolicy.KEEP_LAST_SUCCESS, MANUAL, scheduler)) {
+            reachable.set(false);
+
+            //when
+            Failable<String, String> failed = snapshot.refresh();
+            snapshot.refresh();
+
+            //then
+            assertEquals("coop unreachable", failed.getFailure());
+            assertEquals("config 1", snapshot.get().getSuccess());
+            assertEquals(2, snapshot.getFailureStreak());
+            assertEquals(Optional.of("coop unreachable"), snapshot.getLastFailure());
+
+            reachable.set(true);
+            snapshot.refresh();
+            assertEquals("config 4", snapshot.get().getSuccess());
+            assertEquals(0, snapshot.getFailureStreak());
+        }
+    }
+
+    @Test
+    @DisplayName("KEEP_LAST_SUCCESS publishes failures until there is a success to keep")
+    public void keepLastSuccessWithoutSuccess() {
+        //given
+        reachable.set(false);
+
+        //when
+        try(FailableSnapshot<String, String> snapshot = FailableSnapshot.start(pollCoop, Exception::getMessage,
+                FailurePolicy.KEEP_LAST_SUCCESS, MANUAL, scheduler)) {
+
+            //then
+            assertEquals("coop unreachable", snapshot.get().getFailure());
+        }
+    }
+
+    @Test
+    @DisplayName("refreshes run on the schedule until closed")
+    public void scheduled() throws Exception {
+        //given
+        FailableSnapshot<String, String> snapshot = FailableSnapshot.start(pollCoop, Exception::getMessage,
+                FailurePolicy.PUBLISH_FAILURE, Duration.ofMillis(1), scheduler);
+
+        //when
+        awaitRefreshes(snapshot, 3);
+        snapshot.close();
+        // let a refresh that was already running finish
+        scheduler.submit(() -> {}).get();
+        long refreshes = snapshot.getRefreshCount();
+        Thread.sleep(20);
+
+        //then
+        assertEquals(refreshes, snapshot.getRefreshCount());
+        assertEquals("config " + refreshes, snapshot.get().getSuccess());
+    }
+
+    @Test
+    @DisplayName("a scheduled refresh throwing an Error is counted and kept as the last error, later ones still run")
+    public void scheduledError() throws Exception {
+        //given
+        AtomicInteger attempts = new AtomicInteger();
+        FailableSnapshot<String, String> snapshot = FailableSnapshot.start(() -> {
+            int attempt = attempts.incrementAndGet();
+            if(attempt == 2) {
+                throw new AssertionError("coop on fire");
+            }
+            return "config " + attempt;
+        }, Exception::getMessage, FailurePolicy.PUBLISH_FAILURE, Duration.ofMillis(1), scheduler);
+
+        //when
+        awaitRefreshes(snapshot, 3);
+        snapshot.close();
+        scheduler.submit(() -> {}).get();
+
+        //then
+        assertEquals(attempts.get(), snapshot.getRefreshCount());
+        assertEquals(0, snapshot.getFailureStreak());
+        assertTrue(snapshot.get().isSuccess());
+        Throwable lastError = snapshot.getLastError().orElseThrow(AssertionError::new);
+        assertTrue(lastError instanceof AssertionError);
+        assertEquals("coop on fire", lastError.getMessage());
+    }
+
+    @Test
+    @DisplayName("a manual refresh with a throwing converter propagates but still counts as a refresh")
+    public void manualConverterThrows() {
+        //given
+        FailableSnapshot<String, String> snapshot = FailableSnapshot.start(pollCoop, (exception) -> {
+            throw new IllegalStateException("converter broke");
+        }, FailurePolicy.PUBLISH_FAILURE, MANUAL, scheduler);
+        reachable.set(false);
+
+        //when
+        assertThrows(IllegalStateException.class, snapshot::refresh);
+
+        //then
+        assertEquals(2, snapshot.getRefreshCount());
+        assertEquals("config 1", snapshot.get().getSuccess());
+        assertFalse(snapshot.getLastError().isPresent());
+    }
+
+    @Test
+    @DisplayName("a non positive period is rejected")
+    public void invalidPeriod() {
+        //given
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> FailableSnapshot.start(pollCoop, Exception::getMessage,
+                FailurePolicy.PUBLISH_FAILURE, Duration.ZERO, scheduler));
+    }
+
+}
@@ -1,7 +1,10 @@
 package dev.errant.bettertype.basic.converter.exception;
 
+import dev.errant.bettertype.basic.converter.exception.provided.BoundedStackTracePrintingExceptionConverter;
+import dev.errant.bettertype.basic.converter.exception.provided.CachingStackTracePrintingExceptionConverter;
 import dev.errant.bettertype.basic.converter.exception.provided.MessagePrintingExceptionConverter;
 import dev.errant.bettertype.basic.converter.exception.provided.StackTracePrintingExceptionConverter;
+import dev.errant.bettertype.basic.converter.exception.provided.TypeDispatchingExceptionConverter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -33,4 +36,39 @@ class ExceptionConvertersTest {
         assertEquals(StackTracePrintingExceptionConverter.class, converter.getClass());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("create cachingStackTracePrintingConverter")
+    public void createCachingStackTracePrintingConverter() {
+        //given
+
+        //when
+        ExceptionConverter<String> converter = ExceptionConverters.cachingStackTracePrintingConverter(16);
+
+        //then
+        assertEquals(CachingStackTracePrintingExceptionConverter.class, converter.getClass());
+    }
+
+    @Test
+    @DisplayName("create boundedStackTracePrintingConverter")
+    public void createBoundedStackTracePrintingConverter() {
+        //given
+
+        //when
+        ExceptionConverter<String> converter = ExceptionConverters.boundedStackTracePrintingConverter(20, 3);
+
+        //then
+        assertEquals(BoundedStackTracePrintingExceptionConverter.class, converter.getClass());
+    }
+
+    @Test
+    @DisplayName("create byType converter")
+    public void createByTypeConverter() {
+        //given
+
+        //when
+        ExceptionConverter<String> converter = ExceptionConverters.<String>byType(Exception::getMessage).build();
+
+        //then
+        assertEquals(TypeDispatchingExceptionConverter.class, converter.getClass());
+    }
+}
@@ -0,0 +1,153 @@
+package dev.errant.bettertype.basic.converter.exception.provided;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedStackTracePrintingExceptionConverterTest {
+    private static final String NL = System.lineSeparator();
+
+    @Test
+    @DisplayName("frames beyond the maximum are omitted")
+    public void limitsFrames() {
+        //given
+        BoundedStackTracePrintingExceptionConverter converter = new BoundedStackTracePrintingExceptionConverter(2, 5);
+        Exception e = withTrace(new IllegalStateException("bang"), 5);
+
+        //when
+        String output = converter.convert(e);
+
+        //then
+        assertEquals("java.lang.IllegalStateException: bang" + NL
+                + "\tat chickens.Coop.frame0(Coop.java:10)" + NL
+                + "\tat chickens.Coop.frame1(Coop.java:11)" + NL
+                + "\t... 3 more" + NL, output);
+    }
+
+    @Test
+    @DisplayName("causes beyond the maximum depth are omitted")
+    public void limitsCauseDepth() {
+        //given
+        BoundedStackTracePrintingExceptionConverter converter = new BoundedStackTracePrintingExceptionConverter(0, 1);
+        Exception e = new IllegalStateException("one", new IOException("two", new IOException("three")));
+        e.setStackTrace(new StackTraceElement[0]);
+        e.getCause().setStackTrace(new StackTraceElement[0]);
+
+        //when
+        String output = converter.convert(e);
+
+        //then
+        assertEquals("java.lang.IllegalStateException: one" + NL
+                + "Caused by: java.io.IOException: two" + NL
+                + "Caused by: ... (further causes omitted)" + NL, output);
+    }
+
+    @Test
+    @DisplayName("a circular cause chain terminates at the maximum depth")
+    public void circularCause() {
+        //given
+        BoundedStackTracePrintingExceptionConverter converter = new BoundedStackTracePrintingExceptionConverter(0, 3);
+        Exception outer = new Exception("outer");
+        Exception inner = new Exception("inner", outer);
+        outer.initCause(inner);
+
+        //when
+        String output = converter.convert(outer);
+
+        //then
+        assertTrue(output.endsWith("Caused by: ... (further causes omitted)" + NL));
+    }
+
+    @Test
+    @DisplayName("frames shared with the enclosing exception are elided")
+    public void elidesFramesInCommon() {
+        //given
+        BoundedStackTracePrintingExceptionConverter converter = new BoundedStackTracePrintingExceptionConverter(10, 5);
+        IOException cause = withTrace(new IOException("door stuck"), 3);
+        Exception e = withTrace(new IllegalStateException("bang", cause), 3);
+        StackTraceElement[] causeTrace = e.getStackTrace().clone();
+        causeTrace[0] = new StackTraceElement("chickens.Door", "open", "Door.java", 4);
+        cause.setStackTrace(causeTrace);
+
+        //when
+        String output = converter.convert(e);
+
+        //then
+        assertTrue(output.endsWith("Caused by: java.io.IOException: door stuck" + NL
+                + "\tat chickens.Door.open(Door.java:4)" + NL
+                + "\t... 2 more" + NL), output);
+    }
+
+    @Test
+    @DisplayName("suppressed exceptions are listed by description")
+    public void listsSuppressed() {
+        //given
+        BoundedStackTracePrintingExceptionConverter converter = new BoundedStackTracePrintingExceptionConverter(0, 0);
+        Exception e = withTrace(new IllegalStateException("bang"), 0);
+        e.addSuppressed(new IOException("also bang"));
+
+        //when
+        String output = converter.convert(e);
+
+        //then
+        assertEquals("java.lang.IllegalStateException: bang" + NL
+                + "\tSuppressed: java.io.IOException: also bang" + NL, output);
+    }
+
+    @Test
+    @DisplayName("append to a caller supplied CharBuffer")
+    public void appendToCharBuffer() throws IOException {
+        //given
+        BoundedStackTracePrintingExceptionConverter converter = new BoundedStackTracePrintingExceptionConverter(1, 0);
+        Exception e = withTrace(new IllegalStateException("bang"), 1);
+        CharBuffer buffer = CharBuffer.allocate(256);
+
+        //when
+        converter.appendTo(e, buffer);
+        buffer.flip();
+
+        //then
+        assertEquals("java.lang.IllegalStateException: bang" + NL
+                + "\tat chickens.Coop.frame0(Coop.java:10)" + NL, buffer.toString());
+    }
+
+    @Test
+    @DisplayName("consecutive conversions on one thread do not leak into each other")
+    public void reusedBufferIsReset() {
+        //given
+        BoundedStackTracePrintingExceptionConverter converter = new BoundedStackTracePrintingExceptionConverter(0, 0);
+
+        //when
+        converter.convert(withTrace(new IllegalStateException("first"), 0));
+        String second = converter.convert(withTrace(new IllegalStateException("second"), 0));
+
+        //then
+        assertEquals("java.lang.IllegalStateException: second" + NL, second);
+    }
+
+    @Test
+    @DisplayName("negative limits are rejected")
+    public void illegalLimits() {
+        //given
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> new BoundedStackTracePrintingExceptionConverter(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedStackTracePrintingExceptionConverter(0, -1));
+    }
+
+    private static <T extends Exception> T withTrace(T exception, int frames) {
+        StackTraceElement[] trace = new StackTraceElement[frames];
+        for(int i = 0; i < frames; i++) {
+            trace[i] = new StackTraceElement("chickens.Coop", "frame" + i, "Coop.java", 10 + i);
+        }
+        exception.setStackTrace(trace);
+
+        return exception;
+    }
+
+}
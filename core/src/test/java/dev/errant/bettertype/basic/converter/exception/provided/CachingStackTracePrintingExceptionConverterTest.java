@@ -0,0 +1,152 @@
+package dev.errant.bettertype.basic.converter.exception.provided;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingStackTracePrintingExceptionConverterTest {
+
+    @Test
+    @DisplayName("output matches the stack trace printing converter")
+    public void sameOutputAsStackTracePrinting() {
+        //given
+        CachingStackTracePrintingExceptionConverter converter = new CachingStackTracePrintingExceptionConverter(10);
+        Exception e = new IllegalStateException("bang", new IOException("door stuck"));
+        e.addSuppressed(new RuntimeException("also bang"));
+
+        //when
+        String output = converter.convert(e);
+
+        //then
+        assertEquals(new StackTracePrintingExceptionConverter().convert(e), output);
+    }
+
+    @Test
+    @DisplayName("the same trace from the same site is rendered once")
+    public void sameTraceIsCached() {
+        //given
+        CachingStackTracePrintingExceptionConverter converter = new CachingStackTracePrintingExceptionConverter(10);
+
+        //when
+        String first = null;
+        String last = null;
+        for(int i = 0; i < 5; i++) {
+            last = converter.convert(failAt("bang"));
+            if(first == null) {
+                first = last;
+            }
+        }
+
+        //then
+        assertSame(first, last);
+        assertEquals(1, converter.getMissCount());
+        assertEquals(4, converter.getHitCount());
+        assertEquals(1, converter.size());
+    }
+
+    @Test
+    @DisplayName("different messages are rendered separately")
+    public void differentMessagesAreNotShared() {
+        //given
+        CachingStackTracePrintingExceptionConverter converter = new CachingStackTracePrintingExceptionConverter(10);
+
+        //when
+        List<String> outputs = new ArrayList<>();
+        for(String message : List.of("bang", "crash")) {
+            outputs.add(converter.convert(failAt(message)));
+        }
+
+        //then
+        assertNotEquals(outputs.get(0), outputs.get(1));
+        assertEquals(2, converter.getMissCount());
+        assertEquals(0, converter.getHitCount());
+    }
+
+    @Test
+    @DisplayName("different causes are rendered separately")
+    public void differentCausesAreNotShared() {
+        //given
+        CachingStackTracePrintingExceptionConverter converter = new CachingStackTracePrintingExceptionConverter(10);
+
+        //when
+        List<String> outputs = new ArrayList<>();
+        for(String causeMessage : List.of("door stuck", "fox in coop")) {
+            outputs.add(converter.convert(new IllegalStateException("bang", new IOException(causeMessage))));
+        }
+
+        //then
+        assertNotEquals(outputs.get(0), outputs.get(1));
+        assertEquals(2, converter.getMissCount());
+    }
+
+    @Test
+    @DisplayName("a trace not used since the last eviction sweep is evicted beyond the maximum size")
+    public void evictsBeyondMaximumSize() {
+        //given
+        CachingStackTracePrintingExceptionConverter converter = new CachingStackTracePrintingExceptionConverter(2);
+
+        //when
+        for(String message : List.of("one", "two", "one", "three", "one", "two")) {
+            converter.convert(failAt(message));
+        }
+
+        //then
+        assertEquals(2, converter.size());
+        assertEquals(2, converter.getHitCount());
+        assertEquals(4, converter.getMissCount());
+    }
+
+    @Test
+    @DisplayName("converting from many threads keeps the cache within its maximum size")
+    public void concurrentConversions() {
+        //given
+        CachingStackTracePrintingExceptionConverter converter = new CachingStackTracePrintingExceptionConverter(8);
+
+        //when
+        IntStream.range(0, 10_000).parallel().forEach((i) -> {
+            String message = "egg " + (i % 32);
+            assertTrue(converter.convert(failAt(message)).contains(message));
+        });
+
+        //then
+        assertTrue(converter.size() <= 8);
+        assertEquals(10_000, converter.getHitCount() + converter.getMissCount());
+    }
+
+    @Test
+    @DisplayName("circular causes do not loop forever")
+    public void circularCause() {
+        //given
+        CachingStackTracePrintingExceptionConverter converter = new CachingStackTracePrintingExceptionConverter(10);
+        Exception outer = new Exception("outer");
+        Exception inner = new Exception("inner", outer);
+        outer.initCause(inner);
+
+        //when
+        String output = converter.convert(outer);
+
+        //then
+        assertTrue(output.contains("CIRCULAR REFERENCE"));
+    }
+
+    @Test
+    @DisplayName("a maximum size below one is rejected")
+    public void illegalMaximumSize() {
+        //given
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> new CachingStackTracePrintingExceptionConverter(0));
+    }
+
+    private static Exception failAt(String message) {
+        return new IllegalStateException(message);
+    }
+
+}
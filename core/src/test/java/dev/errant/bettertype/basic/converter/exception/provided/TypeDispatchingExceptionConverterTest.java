@@ -0,0 +1,141 @@
+package dev.errant.bettertype.basic.converter.exception.provided;
+
+import dev.errant.bettertype.basic.absorber.NullValueAbsorbed;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverters;
+import dev.errant.bettertype.basic.failable.Failable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeDispatchingExceptionConverterTest {
+
+    private interface Retryable {
+    }
+
+    private static class RetryableException extends RuntimeException implements Retryable {
+    }
+
+    private static class SpecialFileNotFoundException extends FileNotFoundException {
+    }
+
+    private final ExceptionConverter<String> converter = ExceptionConverters.<String>byType((exception) -> "unknown")
+            .on(IOException.class, (exception) -> "io: " + exception.getMessage())
+            .on(FileNotFoundException.class, (exception) -> "missing")
+            .onInterface(Retryable.class, (retryable) -> "retry")
+            .on(RuntimeException.class, (exception) -> "runtime")
+            .build();
+
+    @Test
+    @DisplayName("an exact type match is converted by its converter")
+    public void exactMatch() {
+        //given
+
+        //when
+        String converted = converter.convert(new IOException("coop door stuck"));
+
+        //then
+        assertEquals("io: coop door stuck", converted);
+    }
+
+    @Test
+    @DisplayName("the nearest registered superclass wins, whatever the registration order")
+    public void nearestSuperclass() {
+        //given
+
+        //when
+        //then
+        assertEquals("missing", converter.convert(new SpecialFileNotFoundException()));
+        assertEquals("io: end of coop", converter.convert(new EOFException("end of coop")));
+        assertEquals("runtime", converter.convert(new IllegalStateException()));
+    }
+
+    @Test
+    @DisplayName("a superclass match is preferred to an interface match")
+    public void superclassBeforeInterface() {
+        //given
+        ExceptionConverter<String> interfaceOnly = ExceptionConverters.<String>byType((exception) -> "unknown")
+                .onInterface(Retryable.class, (retryable) -> "retry")
+                .build();
+
+        //when
+        //then
+        assertEquals("runtime", converter.convert(new RetryableException()));
+        assertEquals("retry", interfaceOnly.convert(new RetryableException()));
+    }
+
+    @Test
+    @DisplayName("exceptions with no registered type are converted by the fallback")
+    public void fallback() {
+        //given
+
+        //when
+        String converted = converter.convert(new TimeoutException());
+
+        //then
+        assertEquals("unknown", converted);
+    }
+
+    @Test
+    @DisplayName("null values are handled by the null value handler")
+    public void nullValue() {
+        //given
+        ExceptionConverter<String> withNullHandler = ExceptionConverters.<String>byType((exception) -> "unknown")
+                .onNullValue(() -> "no chickens")
+                .build();
+
+        //when
+        Failable<String, String> absorbed = Failable.absorb(() -> null, withNullHandler);
+
+        //then
+        assertEquals("no chickens", absorbed.getFailure());
+        assertEquals("unknown", converter.convert(NullValueAbsorbed.instance()));
+    }
+
+    @Test
+    @DisplayName("resolution is cached per class, later registrations on the builder do not change a built converter")
+    public void builtConverterImmutable() {
+        //given
+        TypeDispatchingExceptionConverter.Builder<String> builder = ExceptionConverters.<String>byType((exception) -> "unknown");
+        ExceptionConverter<String> first = builder.build();
+
+        //when
+        builder.on(IOException.class, (exception) -> "io");
+        ExceptionConverter<String> second = builder.build();
+
+        //then
+        assertEquals("unknown", first.convert(new IOException()));
+        assertEquals("unknown", first.convert(new IOException()));
+        assertEquals("io", second.convert(new IOException()));
+    }
+
+    @Test
+    @DisplayName("registering a type twice is rejected")
+    public void duplicateType() {
+        //given
+        TypeDispatchingExceptionConverter.Builder<String> builder = ExceptionConverters.<String>byType((exception) -> "unknown")
+                .on(IOException.class, (exception) -> "io");
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> builder.on(IOException.class, (exception) -> "io again"));
+    }
+
+    @Test
+    @DisplayName("a class registered as an interface is rejected")
+    public void classAsInterface() {
+        //given
+        TypeDispatchingExceptionConverter.Builder<String> builder = ExceptionConverters.<String>byType((exception) -> "unknown");
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> builder.onInterface(IOException.class, (exception) -> "io"));
+    }
+
+}
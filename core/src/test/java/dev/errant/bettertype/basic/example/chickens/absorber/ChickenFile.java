@@ -7,6 +7,8 @@ import dev.errant.bettertype.basic.failable.SimpleFailable;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class ChickenFile {
 
@@ -24,5 +26,12 @@ public class ChickenFile {
         );
     }
 
+    public CompletableFuture<Failable<String, String>> readChickenFileAsync(Executor ioExecutor) {
+        return Failable.absorbAsync(
+                () -> Files.readString(Paths.get("chickens.txt")),
+                ExceptionConverters.messagePrintingConverter(),
+                ioExecutor
+        );
+    }
 
 }
@@ -9,9 +9,9 @@ public class ChickenCoop {
 
     public SimpleFailable<DoorNotClosedReason> closeCoopDoor() {
         if(chickensTotal < chickensInCoop) {
-            return SimpleFailable.failure(DoorNotClosedReason.NOT_ALL_ACCOUNTED_FOR);
+            return SimpleFailable.enumFailure(DoorNotClosedReason.NOT_ALL_ACCOUNTED_FOR);
         } else if(doorStuck) {
-            return SimpleFailable.failure(DoorNotClosedReason.DOOR_STUCK);
+            return SimpleFailable.enumFailure(DoorNotClosedReason.DOOR_STUCK);
         } else {
             return SimpleFailable.success();
         }
@@ -0,0 +1,115 @@
+package dev.errant.bettertype.basic.failable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The double specific behaviour of DoubleFailable, the failure side shared with the other specializations is covered
+ * by {@link PrimitiveFailableTest}.
+ */
+class DoubleFailableTest {
+
+    @Test
+    @DisplayName("basic usage success")
+    public void basicUsageSuccess() {
+        //given
+        DoubleFailable<String> weight;
+
+        //when
+        weight = DoubleFailable.success(1.5);
+
+        //then
+        assertTrue(weight.isSuccess());
+        assertFalse(weight.isFailure());
+        assertEquals(1.5, weight.getAsDouble());
+        assertThrows(NoSuchElementException.class, weight::getFailure);
+    }
+
+    @Test
+    @DisplayName("absorb a NaN as a success, it is a double value rather than a missing one")
+    public void absorbNaN() {
+        //given
+
+        //when
+        DoubleFailable<Exception> absorb = DoubleFailable.absorb(() -> Double.NaN);
+
+        //then
+        assertTrue(absorb.isSuccess());
+        assertTrue(Double.isNaN(absorb.getAsDouble()));
+    }
+
+    @Test
+    @DisplayName("convert to a 'present' OptionalDouble")
+    public void toOptionalDouble_success() {
+        //given
+        DoubleFailable<String> success = DoubleFailable.success(1.5);
+
+        //when
+        OptionalDouble optionalResult = success.toOptionalDouble();
+
+        //then
+        assertEquals(OptionalDouble.of(1.5), optionalResult);
+    }
+
+    @Test
+    @DisplayName("map success keeps the fractional part")
+    public void mapSuccess() {
+        //given
+        DoubleFailable<String> source = DoubleFailable.success(1.5);
+
+        //when
+        DoubleFailable<String> mapped = source.mapSuccess(x -> x / 4);
+
+        //then
+        assertEquals(0.375, mapped.getAsDouble());
+    }
+
+    @Test
+    @DisplayName("convert to a boxed Failable of Double")
+    public void boxed() {
+        //given
+        DoubleFailable<String> success = DoubleFailable.success(1.5);
+
+        //when
+        Failable<Double, String> boxedSuccess = success.boxed();
+
+        //then
+        assertEquals(Failable.success(1.5), boxedSuccess);
+    }
+
+    @Test
+    @DisplayName("successes with equal values are equal, hashing as the boxed Double")
+    public void equalSuccesses() {
+        //given
+        DoubleFailable<String> first = DoubleFailable.success(1.5);
+
+        //when
+        DoubleFailable<String> second = DoubleFailable.success(1.5);
+
+        //then
+        assertEquals(first, second);
+        assertEquals(Double.hashCode(1.5), first.hashCode());
+        assertNotEquals(first, DoubleFailable.success(7.5));
+        assertEquals("DoubleFailable.success(1.5)", first.toString());
+    }
+
+    @Test
+    @DisplayName("NaN successes are equal, as with Double.equals")
+    public void nanSuccessesAreEqual() {
+        //given
+        DoubleFailable<String> first = DoubleFailable.success(Double.NaN);
+
+        //when
+        DoubleFailable<String> second = DoubleFailable.success(Double.NaN);
+
+        //then
+        assertEquals(first, second);
+        assertNotEquals(DoubleFailable.success(0.0), DoubleFailable.success(-0.0));
+    }
+
+}
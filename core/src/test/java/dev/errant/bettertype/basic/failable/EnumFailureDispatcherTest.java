@@ -0,0 +1,93 @@
+package dev.errant.bettertype.basic.failable;
+
+import dev.errant.bettertype.basic.example.chickens.simplefailable.DoorNotClosedReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EnumFailureDispatcherTest {
+
+    @Test
+    @DisplayName("success calls the success handler")
+    public void dispatchSuccess() {
+        //given
+        Runnable successHandler = mock(Runnable.class);
+        @SuppressWarnings("unchecked")
+        Consumer<DoorNotClosedReason> failureHandler = mock(Consumer.class);
+        EnumFailureDispatcher<DoorNotClosedReason> dispatcher = EnumFailureDispatcher.forEnum(DoorNotClosedReason.class)
+                .onSuccess(successHandler)
+                .on(DoorNotClosedReason.DOOR_STUCK, failureHandler);
+
+        //when
+        dispatcher.dispatch(SimpleFailable.success());
+
+        //then
+        verify(successHandler).run();
+        verifyZeroInteractions(failureHandler);
+    }
+
+    @Test
+    @DisplayName("failure calls the handler registered for its reason")
+    public void dispatchFailure() {
+        //given
+        @SuppressWarnings("unchecked")
+        Consumer<DoorNotClosedReason> stuckHandler = mock(Consumer.class);
+        @SuppressWarnings("unchecked")
+        Consumer<DoorNotClosedReason> fallbackHandler = mock(Consumer.class);
+        EnumFailureDispatcher<DoorNotClosedReason> dispatcher = EnumFailureDispatcher.forEnum(DoorNotClosedReason.class)
+                .on(DoorNotClosedReason.DOOR_STUCK, stuckHandler)
+                .otherwise(fallbackHandler);
+
+        //when
+        dispatcher.dispatch(SimpleFailable.enumFailure(DoorNotClosedReason.DOOR_STUCK));
+
+        //then
+        verify(stuckHandler).accept(DoorNotClosedReason.DOOR_STUCK);
+        verifyZeroInteractions(fallbackHandler);
+    }
+
+    @Test
+    @DisplayName("failure without a specific handler calls the fallback")
+    public void dispatchFallback() {
+        //given
+        @SuppressWarnings("unchecked")
+        Consumer<DoorNotClosedReason> fallbackHandler = mock(Consumer.class);
+        EnumFailureDispatcher<DoorNotClosedReason> dispatcher = EnumFailureDispatcher.forEnum(DoorNotClosedReason.class)
+                .on(DoorNotClosedReason.DOOR_STUCK, (reason) -> fail("wrong handler"))
+                .otherwise(fallbackHandler);
+
+        //when
+        dispatcher.dispatch(SimpleFailable.failure(DoorNotClosedReason.NOT_ALL_ACCOUNTED_FOR));
+
+        //then
+        verify(fallbackHandler).accept(DoorNotClosedReason.NOT_ALL_ACCOUNTED_FOR);
+    }
+
+    @Test
+    @DisplayName("failure without any handler is rejected")
+    public void dispatchUnhandled() {
+        //given
+        EnumFailureDispatcher<DoorNotClosedReason> dispatcher = EnumFailureDispatcher.forEnum(DoorNotClosedReason.class);
+
+        //when
+        //then
+        assertThrows(IllegalStateException.class,
+                () -> dispatcher.dispatch(SimpleFailable.enumFailure(DoorNotClosedReason.DOOR_STUCK)));
+    }
+
+    @Test
+    @DisplayName("success without a success handler does nothing")
+    public void dispatchSuccessWithoutHandler() {
+        //given
+        EnumFailureDispatcher<DoorNotClosedReason> dispatcher = EnumFailureDispatcher.forEnum(DoorNotClosedReason.class);
+
+        //when
+        //then
+        assertDoesNotThrow(() -> dispatcher.dispatch(SimpleFailable.success()));
+    }
+
+}
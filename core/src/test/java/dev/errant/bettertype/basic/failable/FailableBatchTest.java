@@ -0,0 +1,152 @@
+package dev.errant.bettertype.basic.failable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FailableBatchTest {
+
+    @Test
+    @DisplayName("indexed access to successes and failures")
+    public void indexedAccess() {
+        //given
+        FailableBatch<Integer, String> batch = FailableBatch.<Integer, String>builder()
+                .addSuccess(1)
+                .addFailure("fox")
+                .add(Failable.success(3))
+                .add(Failable.failure("badger"))
+                .build();
+
+        //when
+        //then
+        assertEquals(4, batch.size());
+        assertEquals(2, batch.successCount());
+        assertEquals(2, batch.failureCount());
+        assertTrue(batch.isSuccess(0));
+        assertTrue(batch.isFailure(1));
+        assertEquals(1, batch.getSuccess(0));
+        assertEquals("fox", batch.getFailure(1));
+        assertEquals(3, batch.getSuccess(2));
+        assertEquals("badger", batch.getFailure(3));
+        assertEquals(3, batch.get(2).getSuccess());
+        assertEquals("badger", batch.get(3).getFailure());
+        assertFalse(batch.isAllSuccess());
+    }
+
+    @Test
+    @DisplayName("accessing the wrong side of an outcome throws")
+    public void wrongSide() {
+        //given
+        FailableBatch<Integer, String> batch = FailableBatch.<Integer, String>builder()
+                .addSuccess(1)
+                .addFailure("fox")
+                .build();
+
+        //when
+        //then
+        assertThrows(NoSuchElementException.class, () -> batch.getFailure(0));
+        assertThrows(NoSuchElementException.class, () -> batch.getSuccess(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.isSuccess(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getSuccess(-1));
+    }
+
+    @Test
+    @DisplayName("iterate over only the successes or only the failures")
+    public void iteration() {
+        //given
+        FailableBatch<Integer, String> batch = IntStream.range(0, 1000)
+                .mapToObj(i -> i % 7 == 0 ? Failable.<Integer, String>failure("fox " + i) : Failable.<Integer, String>success(i))
+                .collect(FailableBatch.collector());
+
+        //when
+        List<Integer> successes = new ArrayList<>();
+        batch.successes().forEach(successes::add);
+        List<Integer> forEachSuccesses = new ArrayList<>();
+        batch.forEachSuccess(forEachSuccesses::add);
+        List<String> failures = new ArrayList<>();
+        batch.forEachFailure(failures::add);
+
+        //then
+        List<Integer> expectedSuccesses = IntStream.range(0, 1000).filter(i -> i % 7 != 0).boxed().collect(Collectors.toList());
+        List<String> expectedFailures = IntStream.range(0, 1000).filter(i -> i % 7 == 0).mapToObj(i -> "fox " + i).collect(Collectors.toList());
+        assertEquals(expectedSuccesses, successes);
+        assertEquals(expectedSuccesses, forEachSuccesses);
+        assertEquals(expectedFailures, failures);
+        assertEquals(expectedFailures, batch.failures());
+        assertArrayEquals(IntStream.range(0, 1000).filter(i -> i % 7 == 0).toArray(), batch.getFailureIndices());
+    }
+
+    @Test
+    @DisplayName("collecting a parallel stream keeps encounter order")
+    public void parallelCollect() {
+        //given
+        List<Failable<Integer, String>> outcomes = IntStream.range(0, 100_000)
+                .mapToObj(i -> i % 100 == 3 ? Failable.<Integer, String>failure("fox " + i) : Failable.<Integer, String>success(i))
+                .collect(Collectors.toList());
+
+        //when
+        FailableBatch<Integer, String> batch = outcomes.parallelStream().collect(FailableBatch.collector());
+
+        //then
+        assertEquals(outcomes.size(), batch.size());
+        assertEquals(1000, batch.failureCount());
+        for(int i = 0; i < outcomes.size(); i++) {
+            Failable<Integer, String> expected = outcomes.get(i);
+            if(expected.isSuccess()) {
+                assertEquals(expected.getSuccess(), batch.getSuccess(i));
+            } else {
+                assertEquals(expected.getFailure(), batch.getFailure(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("an empty batch")
+    public void empty() {
+        //given
+        FailableBatch<Integer, String> batch = FailableBatch.<Integer, String>builder().build();
+
+        //when
+        //then
+        assertEquals(0, batch.size());
+        assertTrue(batch.isAllSuccess());
+        assertFalse(batch.successes().iterator().hasNext());
+        assertTrue(batch.failures().isEmpty());
+    }
+
+    @Test
+    @DisplayName("building takes a copy, the builder can carry on")
+    public void builderReuse() {
+        //given
+        FailableBatch.Builder<Integer, String> builder = FailableBatch.<Integer, String>builder().addSuccess(1);
+        FailableBatch<Integer, String> first = builder.build();
+
+        //when
+        FailableBatch<Integer, String> second = builder.addFailure("fox").build();
+
+        //then
+        assertEquals(1, first.size());
+        assertTrue(first.isAllSuccess());
+        assertEquals(2, second.size());
+        assertEquals("fox", second.getFailure(1));
+    }
+
+    @Test
+    @DisplayName("the failures view cannot be modified")
+    public void failuresUnmodifiable() {
+        //given
+        FailableBatch<Integer, String> batch = FailableBatch.<Integer, String>builder().addFailure("fox").build();
+
+        //when
+        //then
+        assertThrows(UnsupportedOperationException.class, () -> batch.failures().add("badger"));
+    }
+
+}
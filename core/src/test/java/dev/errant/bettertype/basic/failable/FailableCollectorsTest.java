@@ -0,0 +1,116 @@
+package dev.errant.bettertype.basic.failable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FailableCollectorsTest {
+
+    private static List<Failable<Integer, String>> outcomes(int size, int failEvery) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> i % failEvery == failEvery - 1 ? Failable.<Integer, String>failure("fox " + i) : Failable.<Integer, String>success(i))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("partition successes and failures in one pass")
+    public void partitioning() {
+        //given
+        Stream<Failable<Integer, String>> stream = Stream.of(Failable.success(1), Failable.failure("fox"), Failable.success(2));
+
+        //when
+        FailableCollectors.Partition<Integer, String> partition = stream.collect(FailableCollectors.partitioning());
+
+        //then
+        assertEquals(List.of(1, 2), partition.getSuccesses());
+        assertEquals(List.of("fox"), partition.getFailures());
+        assertFalse(partition.isAllSuccess());
+    }
+
+    @Test
+    @DisplayName("partitioning a parallel stream keeps encounter order")
+    public void parallelPartitioning() {
+        //given
+        List<Failable<Integer, String>> outcomes = outcomes(100_000, 10);
+
+        //when
+        FailableCollectors.Partition<Integer, String> partition = outcomes.parallelStream().collect(FailableCollectors.partitioning());
+
+        //then
+        assertEquals(outcomes.stream().filter(Failable::isSuccess).map(Failable::getSuccess).collect(Collectors.toList()), partition.getSuccesses());
+        assertEquals(outcomes.stream().filter(Failable::isFailure).map(Failable::getFailure).collect(Collectors.toList()), partition.getFailures());
+    }
+
+    @Test
+    @DisplayName("all successes are collected when nothing fails")
+    public void allSuccesses() {
+        //given
+        List<Failable<Integer, String>> outcomes = outcomes(10_000, Integer.MAX_VALUE);
+
+        //when
+        Failable<List<Integer>, String> sequential = outcomes.stream().collect(FailableCollectors.allOrFirstFailure());
+        Failable<List<Integer>, String> parallel = outcomes.parallelStream().collect(FailableCollectors.allOrFirstFailure());
+
+        //then
+        List<Integer> expected = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        assertEquals(expected, sequential.getSuccess());
+        assertEquals(expected, parallel.getSuccess());
+    }
+
+    @Test
+    @DisplayName("the first failure in encounter order is collected")
+    public void firstFailure() {
+        //given
+        List<Failable<Integer, String>> outcomes = outcomes(100_000, 1000);
+
+        //when
+        Failable<List<Integer>, String> sequential = outcomes.stream().collect(FailableCollectors.allOrFirstFailure());
+        Failable<List<Integer>, String> parallel = outcomes.parallelStream().collect(FailableCollectors.allOrFirstFailure());
+
+        //then
+        assertEquals("fox 999", sequential.getFailure());
+        assertEquals("fox 999", parallel.getFailure());
+    }
+
+    @Test
+    @DisplayName("count successes and failures")
+    public void counting() {
+        //given
+        List<Failable<Integer, String>> outcomes = outcomes(100_000, 4);
+
+        //when
+        FailableCollectors.Counts sequential = outcomes.stream().collect(FailableCollectors.counting());
+        FailableCollectors.Counts parallel = outcomes.parallelStream().collect(FailableCollectors.counting());
+
+        //then
+        assertEquals(75_000, sequential.getSuccessCount());
+        assertEquals(25_000, sequential.getFailureCount());
+        assertEquals(100_000, sequential.getTotal());
+        assertEquals(75_000, parallel.getSuccessCount());
+        assertEquals(25_000, parallel.getFailureCount());
+    }
+
+    @Test
+    @DisplayName("an empty stream")
+    public void empty() {
+        //given
+
+        //when
+        FailableCollectors.Partition<Integer, String> partition = Stream.<Failable<Integer, String>>empty().collect(FailableCollectors.partitioning());
+        Failable<List<Integer>, String> all = Stream.<Failable<Integer, String>>empty().collect(FailableCollectors.allOrFirstFailure());
+        FailableCollectors.Counts counts = Stream.<Failable<Integer, String>>empty().collect(FailableCollectors.counting());
+
+        //then
+        assertTrue(partition.isAllSuccess());
+        assertTrue(partition.getSuccesses().isEmpty());
+        assertTrue(all.getSuccess().isEmpty());
+        assertEquals(0, counts.getTotal());
+    }
+
+}
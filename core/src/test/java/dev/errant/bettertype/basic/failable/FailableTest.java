@@ -1,12 +1,19 @@
 package dev.errant.bettertype.basic.failable;
 
+import dev.errant.bettertype.basic.absorber.DeadlineExceededAbsorbed;
 import dev.errant.bettertype.basic.absorber.NullValueAbsorbed;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -164,6 +171,158 @@ class FailableTest {
         assertEquals(NullValueAbsorbed.class, absorb.getFailure().getClass());
     }
 
+    @Test
+    @DisplayName("absorbing null values passes the shared NullValueAbsorbed marker to the converter")
+    public void absorbNullSharedMarker() {
+        //given
+
+        //when
+        Failable<Integer, Exception> first = Failable.absorb(() -> null);
+        Failable<Integer, Exception> second = Failable.absorb(() -> null);
+
+        //then
+        assertSame(NullValueAbsorbed.instance(), first.getFailure());
+        assertSame(first.getFailure(), second.getFailure());
+    }
+
+    @Test
+    @DisplayName("absorb the success of an action on an executor")
+    public void absorbAsyncSuccess() throws Exception {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor((runnable) -> new Thread(runnable, "chicken-worker"));
+
+        //when
+        Failable<String, Exception> absorb = Failable.absorbAsync(() -> Thread.currentThread().getName(), executor)
+                .get(5, TimeUnit.SECONDS);
+
+        //then
+        assertTrue(absorb.isSuccess());
+        assertEquals("chicken-worker", absorb.getSuccess());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("absorb the exception of an action on an executor and convert it on the executor")
+    public void absorbAsyncExceptionConverted() throws Exception {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor((runnable) -> new Thread(runnable, "chicken-worker"));
+
+        //when
+        Failable<Integer, String> absorb = Failable.<Integer, String>absorbAsync(() -> {
+            throw new Exception("bang");
+        }, (exception) -> exception.getMessage() + " on " + Thread.currentThread().getName(), executor)
+                .get(5, TimeUnit.SECONDS);
+
+        //then
+        assertTrue(absorb.isFailure());
+        assertEquals("bang on chicken-worker", absorb.getFailure());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("absorb a rejected execution as a failure")
+    public void absorbAsyncRejected() throws Exception {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        //when
+        Failable<String, Exception> absorb = Failable.absorbAsync(() -> "unreachable", executor).get(5, TimeUnit.SECONDS);
+
+        //then
+        assertTrue(absorb.isFailure());
+        assertEquals(RejectedExecutionException.class, absorb.getFailure().getClass());
+    }
+
+    @Test
+    @DisplayName("absorb within a deadline")
+    public void absorbWithinDeadline() {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        //when
+        Failable<String, Exception> absorb = Failable.absorb(() -> "egg", Duration.ofSeconds(5), executor);
+
+        //then
+        assertEquals("egg", absorb.getSuccess());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("absorb past a deadline as a failure, interrupting the action")
+    public void absorbPastDeadline() throws Exception {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        //when
+        Failable<String, Exception> absorb = Failable.absorb(() -> {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return "too late";
+        }, Duration.ofMillis(50), executor);
+
+        //then
+        assertSame(DeadlineExceededAbsorbed.instance(), absorb.getFailure());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("absorb a deadline rejected execution as a failure")
+    public void absorbDeadlineRejected() {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        //when
+        Failable<String, String> absorb = Failable.absorb(() -> "unreachable", (exception) -> exception.getClass().getSimpleName(),
+                Duration.ofSeconds(5), executor);
+
+        //then
+        assertEquals("RejectedExecutionException", absorb.getFailure());
+    }
+
+    @Test
+    @DisplayName("absorb with a deadline, interrupted while waiting")
+    public void absorbDeadlineInterrupted() {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Thread.currentThread().interrupt();
+
+        //when
+        Failable<String, Exception> absorb = Failable.absorb(() -> {
+            Thread.sleep(60_000);
+            return "too late";
+        }, Duration.ofSeconds(5), executor);
+
+        //then
+        assertTrue(Thread.interrupted());
+        assertEquals(InterruptedException.class, absorb.getFailure().getClass());
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("absorb with a deadline, a throwing converter is rethrown")
+    public void absorbDeadlineConverterThrows() {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        //when
+        //then
+        assertThrows(IllegalStateException.class, () -> Failable.absorb(() -> {
+            throw new Exception("bang");
+        }, (exception) -> {
+            throw new IllegalStateException("converter broke");
+        }, Duration.ofSeconds(5), executor));
+        executor.shutdown();
+    }
+
     @Test
     @DisplayName("convert a success Failable to a success SimpleFailable")
     public void toSimpleFailable_success() {
@@ -395,4 +554,38 @@ class FailableTest {
         assertTrue(mapped.isSuccess());
         assertEquals(623452, mapped.getSuccess());
     }
+
+    @Test
+    @DisplayName("successes with equal values are equal")
+    public void equalSuccesses() {
+        //given
+        Failable<String, String> first = Failable.success("some chicken");
+
+        //when
+        Failable<String, String> second = Failable.success(new String("some chicken"));
+
+        //then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, Failable.success("other chicken"));
+        assertEquals("Failable.success(some chicken)", first.toString());
+    }
+
+    @Test
+    @DisplayName("failures with equal values are equal, and never equal a success of the same value")
+    public void equalFailures() {
+        //given
+        Failable<String, String> first = Failable.failure("some failure");
+
+        //when
+        Failable<String, String> second = Failable.failure(new String("some failure"));
+
+        //then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, Failable.failure("other failure"));
+        assertNotEquals(first, Failable.success("some failure"));
+        assertEquals("Failable.failure(some failure)", first.toString());
+    }
+
 }
@@ -0,0 +1,102 @@
+package dev.errant.bettertype.basic.failable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The int specific behaviour of IntFailable, the failure side shared with the other specializations is covered by
+ * {@link PrimitiveFailableTest}.
+ */
+class IntFailableTest {
+
+    @Test
+    @DisplayName("basic usage success")
+    public void basicUsageSuccess() {
+        //given
+        IntFailable<String> count;
+
+        //when
+        count = IntFailable.success(7);
+
+        //then
+        assertTrue(count.isSuccess());
+        assertFalse(count.isFailure());
+        assertEquals(7, count.getAsInt());
+        assertThrows(NoSuchElementException.class, count::getFailure);
+    }
+
+    @Test
+    @DisplayName("absorb a zero as a success, an int can not be a missing value")
+    public void absorbZero() {
+        //given
+
+        //when
+        IntFailable<Exception> absorb = IntFailable.absorb(() -> 0);
+
+        //then
+        assertTrue(absorb.isSuccess());
+        assertEquals(0, absorb.getAsInt());
+    }
+
+    @Test
+    @DisplayName("convert to a 'present' OptionalInt")
+    public void toOptionalInt_success() {
+        //given
+        IntFailable<String> success = IntFailable.success(7);
+
+        //when
+        OptionalInt optionalResult = success.toOptionalInt();
+
+        //then
+        assertEquals(OptionalInt.of(7), optionalResult);
+    }
+
+    @Test
+    @DisplayName("map success uses int arithmetic, overflowing as an int does")
+    public void mapSuccess() {
+        //given
+        IntFailable<String> source = IntFailable.success(Integer.MAX_VALUE);
+
+        //when
+        IntFailable<String> mapped = source.mapSuccess(x -> x + 1);
+
+        //then
+        assertEquals(Integer.MIN_VALUE, mapped.getAsInt());
+    }
+
+    @Test
+    @DisplayName("convert to a boxed Failable of Integer")
+    public void boxed() {
+        //given
+        IntFailable<String> success = IntFailable.success(7);
+
+        //when
+        Failable<Integer, String> boxedSuccess = success.boxed();
+
+        //then
+        assertEquals(Failable.success(7), boxedSuccess);
+    }
+
+    @Test
+    @DisplayName("successes with equal values are equal, hashing as the boxed Integer")
+    public void equalSuccesses() {
+        //given
+        IntFailable<String> first = IntFailable.success(7);
+
+        //when
+        IntFailable<String> second = IntFailable.success(7);
+
+        //then
+        assertEquals(first, second);
+        assertEquals(Integer.hashCode(7), first.hashCode());
+        assertNotEquals(first, IntFailable.success(8));
+        assertNotEquals(first, LongFailable.success(7L));
+        assertEquals("IntFailable.success(7)", first.toString());
+    }
+
+}
@@ -0,0 +1,138 @@
+package dev.errant.bettertype.basic.failable;
+
+import dev.errant.bettertype.basic.absorber.NullValueAbsorbed;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyFailableTest {
+
+    @Test
+    @DisplayName("the action is not run until the outcome is inspected")
+    public void deferred() {
+        //given
+        AtomicInteger runs = new AtomicInteger();
+
+        //when
+        LazyFailable<String, Exception> lazy = LazyFailable.absorb(() -> {
+            runs.incrementAndGet();
+            return "egg";
+        });
+
+        //then
+        assertEquals(0, runs.get());
+        assertFalse(lazy.isEvaluated());
+        assertTrue(lazy.isSuccess());
+        assertTrue(lazy.isEvaluated());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("the action is run only once")
+    public void memoized() {
+        //given
+        AtomicInteger runs = new AtomicInteger();
+        LazyFailable<String, Exception> lazy = LazyFailable.absorb(() -> "egg " + runs.incrementAndGet());
+
+        //when
+        String first = lazy.getSuccess();
+        String mapped = lazy.mapSuccess(egg -> egg + "!").getSuccess();
+
+        //then
+        assertEquals("egg 1", first);
+        assertEquals("egg 1!", mapped);
+        assertSame(lazy.get(), lazy.get());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("exceptions are converted when inspected")
+    public void failure() {
+        //given
+        LazyFailable<String, String> lazy = LazyFailable.absorb(() -> {
+            throw new Exception("fox in the coop");
+        }, Exception::getMessage);
+
+        //when
+        //then
+        assertTrue(lazy.isFailure());
+        assertEquals("fox in the coop", lazy.getFailure());
+        assertEquals("FOX IN THE COOP", lazy.mapFailure(String::toUpperCase).getFailure());
+        assertFalse(lazy.toOptional().isPresent());
+    }
+
+    @Test
+    @DisplayName("null values are absorbed as failures")
+    public void nullValue() {
+        //given
+        LazyFailable<String, Exception> lazy = LazyFailable.absorb(() -> null);
+
+        //when
+        //then
+        assertSame(NullValueAbsorbed.instance(), lazy.getFailure());
+    }
+
+    @Test
+    @DisplayName("concurrent readers share a single evaluation")
+    public void concurrentReaders() throws Exception {
+        //given
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        LazyFailable<Integer, Exception> lazy = LazyFailable.absorb(() -> {
+            Thread.sleep(10);
+            return runs.incrementAndGet();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<Integer>> results = new ArrayList<>();
+        for(int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return lazy.getSuccess();
+            }));
+        }
+        start.countDown();
+
+        //then
+        for(Future<Integer> result : results) {
+            assertEquals(1, result.get());
+        }
+        assertEquals(1, runs.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("a throwing converter remembers nothing, so the next inspection runs the action again")
+    public void converterThrows() {
+        //given
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger conversions = new AtomicInteger();
+        LazyFailable<String, String> lazy = LazyFailable.absorb(() -> {
+            runs.incrementAndGet();
+            throw new Exception("fox");
+        }, (exception) -> {
+            if(conversions.incrementAndGet() == 1) {
+                throw new IllegalStateException("converter broke");
+            }
+            return exception.getMessage();
+        });
+
+        //when
+        //then
+        assertThrows(IllegalStateException.class, lazy::get);
+        assertFalse(lazy.isEvaluated());
+        assertEquals("fox", lazy.getFailure());
+        assertEquals(2, runs.get());
+    }
+
+}
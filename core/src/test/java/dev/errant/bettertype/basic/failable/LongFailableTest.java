@@ -0,0 +1,102 @@
+package dev.errant.bettertype.basic.failable;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The long specific behaviour of LongFailable, the failure side shared with the other specializations is covered by
+ * {@link PrimitiveFailableTest}.
+ */
+class LongFailableTest {
+
+    private static final long BEYOND_INT = Integer.MAX_VALUE + 7L;
+
+    @Test
+    @DisplayName("basic usage success, holding values beyond the int range")
+    public void basicUsageSuccess() {
+        //given
+        LongFailable<String> count;
+
+        //when
+        count = LongFailable.success(BEYOND_INT);
+
+        //then
+        assertTrue(count.isSuccess());
+        assertFalse(count.isFailure());
+        assertEquals(BEYOND_INT, count.getAsLong());
+        assertThrows(NoSuchElementException.class, count::getFailure);
+    }
+
+    @Test
+    @DisplayName("absorb the success of an action")
+    public void absorbSuccess() {
+        //given
+
+        //when
+        LongFailable<Exception> absorb = LongFailable.absorb(() -> BEYOND_INT);
+
+        //then
+        assertEquals(BEYOND_INT, absorb.getAsLong());
+    }
+
+    @Test
+    @DisplayName("convert to a 'present' OptionalLong")
+    public void toOptionalLong_success() {
+        //given
+        LongFailable<String> success = LongFailable.success(BEYOND_INT);
+
+        //when
+        OptionalLong optionalResult = success.toOptionalLong();
+
+        //then
+        assertEquals(OptionalLong.of(BEYOND_INT), optionalResult);
+    }
+
+    @Test
+    @DisplayName("map success uses long arithmetic, not overflowing past the int range")
+    public void mapSuccess() {
+        //given
+        LongFailable<String> source = LongFailable.success(Integer.MAX_VALUE);
+
+        //when
+        LongFailable<String> mapped = source.mapSuccess(x -> x * 2);
+
+        //then
+        assertEquals(Integer.MAX_VALUE * 2L, mapped.getAsLong());
+    }
+
+    @Test
+    @DisplayName("convert to a boxed Failable of Long")
+    public void boxed() {
+        //given
+        LongFailable<String> success = LongFailable.success(BEYOND_INT);
+
+        //when
+        Failable<Long, String> boxedSuccess = success.boxed();
+
+        //then
+        assertEquals(Failable.success(BEYOND_INT), boxedSuccess);
+    }
+
+    @Test
+    @DisplayName("successes with equal values are equal, hashing as the boxed Long")
+    public void equalSuccesses() {
+        //given
+        LongFailable<String> first = LongFailable.success(BEYOND_INT);
+
+        //when
+        LongFailable<String> second = LongFailable.success(BEYOND_INT);
+
+        //then
+        assertEquals(first, second);
+        assertEquals(Long.hashCode(BEYOND_INT), first.hashCode());
+        assertNotEquals(first, LongFailable.success(7L));
+        assertEquals("LongFailable.success(" + BEYOND_INT + ")", first.toString());
+    }
+
+}
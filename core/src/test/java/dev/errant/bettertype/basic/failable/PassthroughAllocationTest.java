@@ -0,0 +1,228 @@
+package dev.errant.bettertype.basic.failable;
+
+import dev.errant.bettertype.basic.cache.FailableSnapshot;
+import dev.errant.bettertype.basic.example.chickens.simplefailable.DoorNotClosedReason;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets for the combinator paths that leave a Failable unchanged, and for the shared success and enumerated
+ * failure instances. Each of these must hand back an existing instance, so running them many times in a loop should
+ * allocate (close to) nothing on the measuring thread.
+ */
+class PassthroughAllocationTest {
+    private static final int ITERATIONS = 100_000;
+
+    /**
+     * Generous allowance for the measurement itself - a single allocation per iteration would exceed this many times over
+     */
+    private static final long BUDGET_BYTES = 1024;
+
+    private static final Function<Integer, Integer> INCREMENT = a -> a + 1;
+    private static final Function<String, String> APPEND = a -> a + "!";
+
+    private com.sun.management.ThreadMXBean threadBean;
+
+    @BeforeEach
+    public void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    @DisplayName("SimpleFailable.success() is a singleton")
+    public void simpleFailableSuccessSingleton() {
+        //given
+        SimpleFailable<String> first = SimpleFailable.success();
+
+        //when
+        SimpleFailable<Integer> second = SimpleFailable.success();
+
+        //then
+        assertSame(first, second);
+        assertWithinBudget(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                SimpleFailable.success();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("SimpleFailable success mapFailure chain does not allocate")
+    public void simpleFailableMapFailureOnSuccess() {
+        //given
+        SimpleFailable<String> source = SimpleFailable.success();
+
+        //when
+        SimpleFailable<String> mapped = source.mapFailure(APPEND).mapFailure(APPEND);
+
+        //then
+        assertSame(source, mapped);
+        assertWithinBudget(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                source.mapFailure(APPEND).mapFailure(APPEND).mapFailure(APPEND);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Failable failure mapSuccess chain does not allocate")
+    public void failableMapSuccessOnFailure() {
+        //given
+        Failable<Integer, String> source = Failable.failure("some failure");
+
+        //when
+        Failable<Integer, String> mapped = source.mapSuccess(INCREMENT).mapSuccess(INCREMENT);
+
+        //then
+        assertSame(source, mapped);
+        assertWithinBudget(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                source.mapSuccess(INCREMENT).mapSuccess(INCREMENT).mapSuccess(INCREMENT);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Failable success mapFailure chain does not allocate")
+    public void failableMapFailureOnSuccess() {
+        //given
+        Failable<Integer, String> source = Failable.success(7);
+
+        //when
+        Failable<Integer, String> mapped = source.mapFailure(APPEND).mapFailure(APPEND);
+
+        //then
+        assertSame(source, mapped);
+        assertWithinBudget(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                source.mapFailure(APPEND).mapFailure(APPEND).mapFailure(APPEND);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Failable success toSimpleFailable does not allocate")
+    public void failableToSimpleFailableOnSuccess() {
+        //given
+        Failable<Integer, String> source = Failable.success(7);
+
+        //when
+        SimpleFailable<String> simple = source.toSimpleFailable();
+
+        //then
+        assertSame(SimpleFailable.success(), simple);
+        assertWithinBudget(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                source.toSimpleFailable();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Failable failure toOptional does not allocate")
+    public void failableToOptionalOnFailure() {
+        //given
+        Failable<Integer, String> source = Failable.failure("some failure");
+
+        //when
+        //then
+        assertWithinBudget(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                source.toOptional();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("SimpleFailable.absorb success does not allocate")
+    public void simpleFailableAbsorbSuccess() {
+        //given
+        SimpleFailable<Exception> absorbed = SimpleFailable.absorb(() -> {});
+
+        //when
+        //then
+        assertSame(SimpleFailable.success(), absorbed);
+        assertWithinBudget(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                SimpleFailable.absorb(() -> {});
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("site named SimpleFailable.absorb success does not allocate without a recorder")
+    public void simpleFailableNamedAbsorbSuccess() {
+        //given
+        SimpleFailable<Exception> absorbed = SimpleFailable.absorb("coop.close", () -> {});
+
+        //when
+        //then
+        assertSame(SimpleFailable.success(), absorbed);
+        assertWithinBudget(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                SimpleFailable.absorb("coop.close", () -> {});
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("SimpleFailable.enumFailure does not allocate")
+    public void simpleFailableEnumFailure() {
+        //given
+
+        //when
+        //then
+        assertWithinBudget(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                SimpleFailable.enumFailure(DoorNotClosedReason.DOOR_STUCK);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("FailableSnapshot.get does not allocate")
+    public void failableSnapshotGet() {
+        //given
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try(FailableSnapshot<String, Exception> snapshot = FailableSnapshot.start(() -> "config", e -> e,
+                FailableSnapshot.FailurePolicy.KEEP_LAST_SUCCESS, Duration.ofHours(1), scheduler)) {
+
+            //when
+            //then
+            assertWithinBudget(() -> {
+                for (int i = 0; i < ITERATIONS; i++) {
+                    snapshot.get();
+                }
+            });
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void assertWithinBudget(Runnable loop) {
+        // first run loads and links everything the loop touches
+        loop.run();
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        loop.run();
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated <= BUDGET_BYTES,
+                "expected at most " + BUDGET_BYTES + " bytes for " + ITERATIONS + " iterations but " + allocated + " were allocated");
+    }
+
+}
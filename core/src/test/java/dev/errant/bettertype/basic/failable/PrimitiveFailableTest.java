@@ -0,0 +1,189 @@
+package dev.errant.bettertype.basic.failable;
+
+import dev.errant.bettertype.basic.absorber.NullValueAbsorbed;
+import dev.errant.bettertype.basic.converter.exception.ExceptionConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The failure side of IntFailable, LongFailable and DoubleFailable, which holds no primitive and behaves the same for
+ * all three. What depends on the primitive is covered by each type's own test.
+ */
+class PrimitiveFailableTest {
+
+    @Test
+    @DisplayName("a failure holds its failure value and no primitive")
+    public void failure() {
+        //given
+
+        //when
+        IntFailable<String> intFailure = IntFailable.failure("Some not yet hatched");
+        LongFailable<String> longFailure = LongFailable.failure("Some not yet hatched");
+        DoubleFailable<String> doubleFailure = DoubleFailable.failure("Some not yet hatched");
+
+        //then
+        assertTrue(intFailure.isFailure());
+        assertFalse(intFailure.isSuccess());
+        assertEquals("Some not yet hatched", intFailure.getFailure());
+        assertThrows(NoSuchElementException.class, intFailure::getAsInt);
+        assertTrue(longFailure.isFailure());
+        assertEquals("Some not yet hatched", longFailure.getFailure());
+        assertThrows(NoSuchElementException.class, longFailure::getAsLong);
+        assertTrue(doubleFailure.isFailure());
+        assertEquals("Some not yet hatched", doubleFailure.getFailure());
+        assertThrows(NoSuchElementException.class, doubleFailure::getAsDouble);
+    }
+
+    @Test
+    @DisplayName("illegal null construction - failure case")
+    public void illegalNullConstructionFailure() {
+        //given
+
+        //when
+        //then
+        assertThrows(AssertionError.class, () -> IntFailable.failure(null));
+        assertThrows(AssertionError.class, () -> LongFailable.failure(null));
+        assertThrows(AssertionError.class, () -> DoubleFailable.failure(null));
+    }
+
+    @Test
+    @DisplayName("absorb the exception of an action and convert it")
+    public void absorbExceptionConverted() {
+        //given
+        Exception e = new Exception("bang");
+
+        //when
+        IntFailable<String> intAbsorb = IntFailable.absorb(() -> {
+            throw e;
+        }, Exception::getMessage);
+        LongFailable<String> longAbsorb = LongFailable.absorb(() -> {
+            throw e;
+        }, Exception::getMessage);
+        DoubleFailable<Exception> doubleAbsorb = DoubleFailable.absorb(() -> {
+            throw e;
+        });
+
+        //then
+        assertEquals("bang", intAbsorb.getFailure());
+        assertEquals("bang", longAbsorb.getFailure());
+        assertSame(e, doubleAbsorb.getFailure());
+    }
+
+    @Test
+    @DisplayName("an exception converted to null is converted as NullValueAbsorbed, as with Failable.absorb")
+    public void absorbExceptionConvertedToNull() {
+        //given
+        ExceptionConverter<String> nullConverting =
+                (exception) -> exception instanceof NullValueAbsorbed ? "no value" : null;
+
+        //when
+        IntFailable<String> intAbsorb = IntFailable.absorb(() -> {
+            throw new IOException("bang");
+        }, nullConverting);
+        LongFailable<String> longAbsorb = LongFailable.absorb(() -> {
+            throw new IOException("bang");
+        }, nullConverting);
+        DoubleFailable<String> doubleAbsorb = DoubleFailable.absorb(() -> {
+            throw new IOException("bang");
+        }, nullConverting);
+        Failable<String, String> generic = Failable.absorb(() -> {
+            throw new IOException("bang");
+        }, nullConverting);
+
+        //then
+        assertEquals("no value", generic.getFailure());
+        assertEquals(generic.getFailure(), intAbsorb.getFailure());
+        assertEquals(generic.getFailure(), longAbsorb.getFailure());
+        assertEquals(generic.getFailure(), doubleAbsorb.getFailure());
+    }
+
+    @Test
+    @DisplayName("an 'empty' optional is returned with a (called) failure handler")
+    @SuppressWarnings("unchecked")
+    public void toOptionalWithHandler() {
+        //given
+        Consumer<String> mockFailureHandler = mock(Consumer.class);
+
+        //when
+        boolean intEmpty = IntFailable.<String>failure("int failure").toOptionalInt(mockFailureHandler).isEmpty();
+        boolean longEmpty = LongFailable.<String>failure("long failure").toOptionalLong(mockFailureHandler).isEmpty();
+        boolean doubleEmpty = DoubleFailable.<String>failure("double failure").toOptionalDouble(mockFailureHandler).isEmpty();
+
+        //then
+        assertTrue(intEmpty);
+        assertTrue(longEmpty);
+        assertTrue(doubleEmpty);
+        verify(mockFailureHandler).accept("int failure");
+        verify(mockFailureHandler).accept("long failure");
+        verify(mockFailureHandler).accept("double failure");
+    }
+
+    @Test
+    @DisplayName("map success passes a failure through unchanged, map failure maps it to a different type")
+    public void mapping() {
+        //given
+        IntFailable<String> intFailure = IntFailable.failure("some failure");
+        LongFailable<String> longFailure = LongFailable.failure("some failure");
+        DoubleFailable<String> doubleFailure = DoubleFailable.failure("some failure");
+
+        //when
+        IntFailable<Integer> intMapped = intFailure.mapFailure(String::length);
+        LongFailable<Integer> longMapped = longFailure.mapFailure(String::length);
+        DoubleFailable<Integer> doubleMapped = doubleFailure.mapFailure(String::length);
+
+        //then
+        assertSame(intFailure, intFailure.mapSuccess(x -> x * 6));
+        assertSame(longFailure, longFailure.mapSuccess(x -> x * 6));
+        assertSame(doubleFailure, doubleFailure.mapSuccess(x -> x * 6));
+        assertEquals(12, intMapped.getFailure());
+        assertEquals(12, longMapped.getFailure());
+        assertEquals(12, doubleMapped.getFailure());
+    }
+
+    @Test
+    @DisplayName("a failure converts to a boxed Failable and a SimpleFailable holding the same failure")
+    public void conversions() {
+        //given
+        IntFailable<String> intFailure = IntFailable.failure("some failure");
+        LongFailable<String> longFailure = LongFailable.failure("some failure");
+        DoubleFailable<String> doubleFailure = DoubleFailable.failure("some failure");
+
+        //when
+        //then
+        assertEquals(Failable.failure("some failure"), intFailure.boxed());
+        assertEquals(Failable.failure("some failure"), longFailure.boxed());
+        assertEquals(Failable.failure("some failure"), doubleFailure.boxed());
+        assertEquals(SimpleFailable.failure("some failure"), intFailure.toSimpleFailable());
+        assertEquals(SimpleFailable.failure("some failure"), longFailure.toSimpleFailable());
+        assertEquals(SimpleFailable.failure("some failure"), doubleFailure.toSimpleFailable());
+        assertTrue(IntFailable.success(7).toSimpleFailable().isSuccess());
+    }
+
+    @Test
+    @DisplayName("failures with equal values are equal, and never equal a success or another specialization")
+    public void equalFailures() {
+        //given
+        IntFailable<String> first = IntFailable.failure("some failure");
+
+        //when
+        IntFailable<String> second = IntFailable.failure("some failure");
+
+        //then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, IntFailable.failure("other failure"));
+        assertNotEquals(first, IntFailable.success(7));
+        assertNotEquals(first, LongFailable.failure("some failure"));
+        assertEquals(LongFailable.failure("some failure"), LongFailable.failure("some failure"));
+        assertEquals(DoubleFailable.failure("some failure"), DoubleFailable.failure("some failure"));
+        assertEquals("IntFailable.failure(some failure)", first.toString());
+    }
+
+}
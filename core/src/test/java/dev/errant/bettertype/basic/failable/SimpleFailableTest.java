@@ -1,10 +1,17 @@
 package dev.errant.bettertype.basic.failable;
 
+import dev.errant.bettertype.basic.absorber.DeadlineExceededAbsorbed;
+import dev.errant.bettertype.basic.example.chickens.simplefailable.DoorNotClosedReason;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -68,6 +75,49 @@ class SimpleFailableTest {
     }
 
 
+    @Test
+    @DisplayName("enumerated failure usage")
+    public void enumFailureUsage() {
+        //given
+        SimpleFailable<DoorNotClosedReason> closedDoor;
+
+        //when
+        closedDoor = SimpleFailable.enumFailure(DoorNotClosedReason.DOOR_STUCK);
+
+        //then
+        assertTrue(closedDoor.isFailure());
+        assertEquals(DoorNotClosedReason.DOOR_STUCK, closedDoor.getFailure());
+    }
+
+    @Test
+    @DisplayName("enumerated failures are shared per constant")
+    public void enumFailureShared() {
+        //given
+        SimpleFailable<DoorNotClosedReason> first = SimpleFailable.enumFailure(DoorNotClosedReason.DOOR_STUCK);
+
+        //when
+        SimpleFailable<DoorNotClosedReason> second = SimpleFailable.enumFailure(DoorNotClosedReason.DOOR_STUCK);
+        SimpleFailable<DoorNotClosedReason> other = SimpleFailable.enumFailure(DoorNotClosedReason.NOT_ALL_ACCOUNTED_FOR);
+
+        //then
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(DoorNotClosedReason.NOT_ALL_ACCOUNTED_FOR, other.getFailure());
+    }
+
+    @Test
+    @DisplayName("enumerated failures work for constants with bodies")
+    public void enumFailureConstantWithBody() {
+        //given
+
+        //when
+        SimpleFailable<Hatching> failure = SimpleFailable.enumFailure(Hatching.CRACKED);
+
+        //then
+        assertSame(Hatching.CRACKED, failure.getFailure());
+        assertSame(failure, SimpleFailable.enumFailure(Hatching.CRACKED));
+    }
+
     @Test
     @DisplayName("absorb the exception of a supplier action")
     public void absorbSupplierException() {
@@ -115,6 +165,83 @@ class SimpleFailableTest {
         assertEquals(message, absorb.getFailure());
     }
 
+    @Test
+    @DisplayName("absorb the success of an action on an executor")
+    public void absorbAsyncSuccess() throws Exception {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        //when
+        SimpleFailable<Exception> absorb = SimpleFailable.absorbAsync(() -> {}, executor).get(5, TimeUnit.SECONDS);
+
+        //then
+        assertTrue(absorb.isSuccess());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("absorb the exception of an action on an executor and convert it on the executor")
+    public void absorbAsyncExceptionConverted() throws Exception {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor((runnable) -> new Thread(runnable, "chicken-worker"));
+
+        //when
+        SimpleFailable<String> absorb = SimpleFailable.absorbAsync(() -> {
+            throw new Exception("bang");
+        }, (exception) -> exception.getMessage() + " on " + Thread.currentThread().getName(), executor)
+                .get(5, TimeUnit.SECONDS);
+
+        //then
+        assertTrue(absorb.isFailure());
+        assertEquals("bang on chicken-worker", absorb.getFailure());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("absorb a rejected execution as a failure")
+    public void absorbAsyncRejected() throws Exception {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        //when
+        SimpleFailable<Exception> absorb = SimpleFailable.absorbAsync(() -> {}, executor).get(5, TimeUnit.SECONDS);
+
+        //then
+        assertTrue(absorb.isFailure());
+        assertEquals(RejectedExecutionException.class, absorb.getFailure().getClass());
+    }
+
+    @Test
+    @DisplayName("absorb within a deadline")
+    public void absorbWithinDeadline() {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        //when
+        SimpleFailable<Exception> absorb = SimpleFailable.absorb(() -> {}, Duration.ofSeconds(5), executor);
+
+        //then
+        assertTrue(absorb.isSuccess());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("absorb past a deadline as a converted failure")
+    public void absorbPastDeadline() throws Exception {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        //when
+        SimpleFailable<String> absorb = SimpleFailable.absorb(() -> Thread.sleep(60_000), Exception::getMessage,
+                Duration.ofMillis(50), executor);
+
+        //then
+        assertEquals(DeadlineExceededAbsorbed.instance().getMessage(), absorb.getFailure());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
     @Test
     @DisplayName("map to a new type - failure value is mapped to same type")
     public void mapToNewFailure() {
@@ -183,4 +310,32 @@ class SimpleFailableTest {
         //then
         assertTrue(mapped.isSuccess());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("failures with equal values are equal, and never equal a success")
+    public void equalFailures() {
+        //given
+        SimpleFailable<String> first = SimpleFailable.failure("some failure");
+
+        //when
+        SimpleFailable<String> second = SimpleFailable.failure(new String("some failure"));
+
+        //then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, SimpleFailable.failure("other failure"));
+        assertNotEquals(first, SimpleFailable.success());
+        assertEquals(SimpleFailable.success(), SimpleFailable.success());
+    }
+
+    enum Hatching {
+        WAITING,
+        CRACKED {
+            @Override
+            public String toString() {
+                return "cracked!";
+            }
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package dev.errant.bettertype.basic.absorber;
+
+import dev.errant.bettertype.basic.failable.Failable;
+import dev.errant.bettertype.basic.failable.SimpleFailable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the packaged multi-release jar on JDK 21, so covers the Java 21 version of VirtualThreadAbsorber.
+ */
+class VirtualThreadAbsorberIT {
+
+    @Test
+    @DisplayName("the Java 21 version of the class is loaded from the jar")
+    public void loadsJava21Version() {
+        //given
+
+        //when
+        //then
+        assertTrue(VirtualThreadAbsorber.isVirtual());
+    }
+
+    @Test
+    @DisplayName("absorb runs the action on a virtual thread")
+    public void absorbOnVirtualThread() throws Exception {
+        //given
+
+        //when
+        Failable<Thread, Exception> absorb = VirtualThreadAbsorber.<Thread, Exception>absorb(Thread::currentThread, (e) -> e)
+                .get(5, TimeUnit.SECONDS);
+
+        //then
+        assertTrue(absorb.getSuccess().isVirtual());
+        assertNotSame(Thread.currentThread(), absorb.getSuccess());
+        assertTrue(absorb.getSuccess().getName().startsWith("bettertype-absorb-"));
+    }
+
+    @Test
+    @DisplayName("absorbSimple runs the action on a virtual thread and converts its exception")
+    public void absorbSimpleOnVirtualThread() throws Exception {
+        //given
+
+        //when
+        SimpleFailable<String> absorb = VirtualThreadAbsorber.absorbSimple(() -> {
+            throw new Exception(Thread.currentThread().isVirtual() ? "virtual bang" : "platform bang");
+        }, Exception::getMessage).get(5, TimeUnit.SECONDS);
+
+        //then
+        assertEquals("virtual bang", absorb.getFailure());
+    }
+
+    @Test
+    @DisplayName("absorbAll runs every action at once on its own virtual thread, keeping their order")
+    public void absorbAllOnVirtualThreads() {
+        //given
+        int chickens = 100;
+        // only counts down to zero if every action is running at the same time
+        CountDownLatch allRunning = new CountDownLatch(chickens);
+        List<AbsorbableSupplierAction<Thread>> actions = new ArrayList<>();
+        for(int i = 0; i < chickens; i++) {
+            int chicken = i;
+            actions.add(() -> {
+                allRunning.countDown();
+                if(!allRunning.await(5, TimeUnit.SECONDS)) {
+                    throw new Exception("chicken " + chicken + " ran alone");
+                }
+                if(chicken % 10 == 0) {
+                    throw new Exception("fox got chicken " + chicken);
+                }
+                return Thread.currentThread();
+            });
+        }
+
+        //when
+        List<Failable<Thread, String>> results = VirtualThreadAbsorber.absorbAll(actions, Exception::getMessage);
+
+        //then
+        assertEquals(chickens, results.size());
+        assertEquals("fox got chicken 0", results.get(0).getFailure());
+        assertEquals("fox got chicken 90", results.get(90).getFailure());
+        assertTrue(results.get(1).getSuccess().isVirtual());
+        assertNotSame(results.get(1).getSuccess(), results.get(2).getSuccess());
+        assertTrue(results.get(99).getSuccess().isVirtual());
+    }
+
+}